@@ -5,6 +5,7 @@ plugins {
     alias(libs.plugins.shadowJar)
     alias(libs.plugins.paper.run)
     alias(libs.plugins.paper.yml)
+    alias(libs.plugins.jmh)
 }
 
 if (!File("$rootDir/.git").exists()) {
@@ -39,10 +40,15 @@ dependencies {
     compileOnly(libs.paper)
     compileOnly(libs.velocity.api)
     annotationProcessor(libs.velocity.api)
+    compileOnly(libs.netty.transport)
     implementation(libs.opentelemetry.api)
     implementation(libs.opentelemetry.sdk.spi)
     implementation(libs.gson)
     compileOnly(libs.spark.api)
+
+    jmhImplementation(libs.paper)
+    jmhImplementation(libs.opentelemetry.sdk)
+    jmhImplementation(libs.opentelemetry.sdk.testing)
 }
 
 tasks {
@@ -60,6 +66,14 @@ tasks {
         }
     }
 
+    register<JavaExec>("loadHarness") {
+        group = "benchmark"
+        description = "Replays synthetic entity, chunk and tick event streams into the Paper listeners."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("dev.themeinerlp.minecraftotel.harness.LoadHarness")
+        args((findProperty("harnessArgs") as String?)?.split(' ')?.filter { it.isNotBlank() } ?: emptyList())
+    }
+
     shadowJar {
         archiveClassifier.set("")
         relocate("org.bstats", "dev.themeinerlp.minecraftotel.org.bstats")
@@ -75,6 +89,13 @@ tasks {
     }
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh.core)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
 paper {
     main = "dev.themeinerlp.minecraftotel.paper.MinecraftOTELPaperPlugin"
     apiVersion = "1.19"
@@ -15,24 +15,31 @@ dependencyResolutionManagement {
             version("paper.yml", "0.6.0")
             version("paper.run", "3.0.2")
             version("shadowJar", "9.2.2")
+            version("jmh.plugin", "0.7.3")
 
             version("paper", "1.21.8-R0.1-SNAPSHOT")
             version("opentelemetry", "1.57.0")
             version("spark", "0.1-SNAPSHOT")
             version("velocity", "3.4.0-SNAPSHOT")
             version("gson", "2.11.0")
+            version("netty", "4.2.0.Final")
+            version("jmh.core", "1.37")
 
             library("paper", "io.papermc.paper", "paper-api").versionRef("paper")
             library("opentelemetry.api", "io.opentelemetry", "opentelemetry-api").versionRef("opentelemetry")
+            library("opentelemetry.sdk", "io.opentelemetry", "opentelemetry-sdk").versionRef("opentelemetry")
+            library("opentelemetry.sdk.testing", "io.opentelemetry", "opentelemetry-sdk-testing").versionRef("opentelemetry")
             library("opentelemetry.sdk.spi", "io.opentelemetry", "opentelemetry-sdk-extension-autoconfigure-spi").versionRef("opentelemetry")
             library("spark.api", "me.lucko", "spark-api").versionRef("spark")
             library("velocity.api", "com.velocitypowered", "velocity-api").versionRef("velocity")
             library("gson", "com.google.code.gson", "gson").versionRef("gson")
+            library("netty.transport", "io.netty", "netty-transport").versionRef("netty")
 
 
             plugin("paper.yml", "net.minecrell.plugin-yml.paper").versionRef("paper.yml")
             plugin("paper.run", "xyz.jpenilla.run-paper").versionRef("paper.run")
             plugin("shadowJar", "com.gradleup.shadow").versionRef("shadowJar")
+            plugin("jmh", "me.champeau.jmh").versionRef("jmh.plugin")
 
         }
     }
@@ -0,0 +1,112 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the name-based {@code record*} methods of {@link MeterTelemetryCollector} with
+ * resolved and bound handles, against an OpenTelemetry SDK with an in-memory reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeterTelemetryCollectorBenchmark {
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "farm"};
+
+    private SdkMeterProvider meterProvider;
+    private InMemoryMetricReader reader;
+    private MeterTelemetryCollector collector;
+    private LongGaugeHandle chunksLoaded;
+    private LongCounterHandle chunkLoads;
+    private BoundLongCounter overworldChunkLoads;
+    private BoundDoubleHistogram tickDuration;
+    private AttributeCache worldAttributes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reader = InMemoryMetricReader.create();
+        meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+        collector = new MeterTelemetryCollector(meterProvider.get("minecraft-otel-benchmark"));
+        chunksLoaded = collector.longGauge(StandardMetrics.CHUNKS_LOADED, StandardMetrics.UNIT_COUNT);
+        chunkLoads = collector.longCounter(StandardMetrics.CHUNKS_LOAD_TOTAL, StandardMetrics.UNIT_COUNT);
+        worldAttributes = new AttributeCache(StandardMetrics.WORLD_KEY);
+        overworldChunkLoads = chunkLoads.bind(worldAttributes.get("world"));
+        tickDuration = collector
+                .doubleHistogram(StandardMetrics.TICK_DURATION, StandardMetrics.UNIT_MILLIS, StandardMetrics.TICK_DURATION_BUCKETS)
+                .bind(Attributes.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        meterProvider.close();
+    }
+
+    @Benchmark
+    public void gaugeByName() {
+        String world = nextWorld();
+        collector.recordLongGauge(
+                StandardMetrics.CHUNKS_LOADED,
+                next,
+                StandardMetrics.UNIT_COUNT,
+                Attributes.of(StandardMetrics.WORLD_KEY, world)
+        );
+    }
+
+    @Benchmark
+    public void gaugeHandle() {
+        chunksLoaded.record(next, worldAttributes.get(nextWorld()));
+    }
+
+    @Benchmark
+    public void counterByName() {
+        collector.recordLongCounter(
+                StandardMetrics.CHUNKS_LOAD_TOTAL,
+                1L,
+                StandardMetrics.UNIT_COUNT,
+                Attributes.of(StandardMetrics.WORLD_KEY, nextWorld())
+        );
+    }
+
+    @Benchmark
+    public void counterHandle() {
+        chunkLoads.add(1L, worldAttributes.get(nextWorld()));
+    }
+
+    @Benchmark
+    public void counterBound() {
+        overworldChunkLoads.add(1L);
+    }
+
+    @Benchmark
+    public void histogramBound() {
+        tickDuration.record(45d + (next & 15));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int collectAndCompleteCycle() {
+        int exported = reader.collectAllMetrics().size();
+        collector.completeCycle(5);
+        return exported;
+    }
+
+    private String nextWorld() {
+        next++;
+        return WORLDS[next & (WORLDS.length - 1)];
+    }
+}
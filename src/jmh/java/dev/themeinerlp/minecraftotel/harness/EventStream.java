@@ -0,0 +1,121 @@
+package dev.themeinerlp.minecraftotel.harness;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.themeinerlp.minecraftotel.stub.BukkitStubs;
+import io.papermc.paper.event.packet.PlayerChunkLoadEvent;
+import io.papermc.paper.event.packet.PlayerChunkUnloadEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Builds a replayable sequence of Bukkit events.
+ *
+ * <p>Chunks are loaded when the first player starts viewing them and unloaded, together with the
+ * entities in them, when the last viewer leaves. A stream that releases every view it takes ends
+ * with nothing loaded, so it can be replayed any number of times without the gauges drifting.
+ */
+final class EventStream {
+    private final World world;
+    private final List<Event> events = new ArrayList<>();
+    private final Map<Long, Chunk> chunks = new HashMap<>();
+    private final Map<Long, Integer> viewers = new HashMap<>();
+    private final Map<Chunk, List<Entity>> entities = new HashMap<>();
+    private final Map<Long, Boolean> generated = new HashMap<>();
+    private int ticks;
+
+    EventStream(World world) {
+        this.world = world;
+    }
+
+    World world() {
+        return world;
+    }
+
+    Player player(String name) {
+        return BukkitStubs.player(name, world);
+    }
+
+    Chunk chunk(int x, int z) {
+        return chunks.computeIfAbsent(key(x, z), ignored -> BukkitStubs.chunk(world, x, z));
+    }
+
+    /**
+     * Starts a player viewing a chunk, loading it first if nobody else views it.
+     *
+     * @return true if the chunk was loaded by this view
+     */
+    boolean view(Player player, int x, int z) {
+        long key = key(x, z);
+        Chunk chunk = chunk(x, z);
+        boolean loaded = viewers.merge(key, 1, Integer::sum) == 1;
+        if (loaded) {
+            events.add(new ChunkLoadEvent(chunk, generated.put(key, Boolean.TRUE) == null));
+        }
+        events.add(new PlayerChunkLoadEvent(chunk, player));
+        return loaded;
+    }
+
+    /**
+     * Stops a player viewing a chunk, removing its entities and unloading it if it was the last
+     * viewer.
+     */
+    void unview(Player player, int x, int z) {
+        long key = key(x, z);
+        Chunk chunk = chunk(x, z);
+        events.add(new PlayerChunkUnloadEvent(chunk, player));
+        Integer remaining = viewers.merge(key, -1, Integer::sum);
+        if (remaining != null && remaining <= 0) {
+            viewers.remove(key);
+            List<Entity> inChunk = entities.remove(chunk);
+            if (inChunk != null) {
+                for (Entity entity : inChunk) {
+                    events.add(new EntityRemoveFromWorldEvent(entity, world));
+                }
+            }
+            events.add(new ChunkUnloadEvent(chunk));
+        }
+    }
+
+    Entity spawn(EntityType type, Chunk chunk, boolean hostile) {
+        Entity entity = BukkitStubs.entity(type, chunk, hostile);
+        entities.computeIfAbsent(chunk, ignored -> new ArrayList<>()).add(entity);
+        events.add(new EntityAddToWorldEvent(entity, world));
+        return entity;
+    }
+
+    void despawn(Entity entity) {
+        List<Entity> inChunk = entities.get(entity.getChunk());
+        if (inChunk != null && inChunk.remove(entity)) {
+            events.add(new EntityRemoveFromWorldEvent(entity, world));
+        }
+    }
+
+    void tick(double durationMillis) {
+        ticks++;
+        events.add(new ServerTickEndEvent(ticks, durationMillis, Math.max(0L, (long) ((50d - durationMillis) * 1_000_000d))));
+    }
+
+    List<Event> events() {
+        return List.copyOf(events);
+    }
+
+    int ticks() {
+        return ticks;
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) ^ (z & 0xFFFFFFFFL);
+    }
+}
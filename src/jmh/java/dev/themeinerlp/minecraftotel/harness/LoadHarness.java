@@ -0,0 +1,237 @@
+package dev.themeinerlp.minecraftotel.harness;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.themeinerlp.minecraftotel.api.collector.MeterTelemetryCollector;
+import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
+import dev.themeinerlp.minecraftotel.paper.listeners.ChunkCounterListener;
+import dev.themeinerlp.minecraftotel.paper.listeners.EntityCounterListener;
+import dev.themeinerlp.minecraftotel.paper.metrics.PaperStandardSnapshotTelemetrySampler;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import dev.themeinerlp.minecraftotel.paper.tick.TickDurationRecorder;
+import dev.themeinerlp.minecraftotel.paper.tick.TickTimeWindow;
+import dev.themeinerlp.minecraftotel.stub.BukkitStubs;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.papermc.paper.event.packet.PlayerChunkLoadEvent;
+import io.papermc.paper.event.packet.PlayerChunkUnloadEvent;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import org.bukkit.event.Event;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Headless load harness that replays synthetic event streams into the Paper listeners.
+ *
+ * <p>Each workload is generated once as a list of events and then replayed for the configured
+ * duration into {@link ChunkCounterListener}, {@link EntityCounterListener} and
+ * {@link TickDurationRecorder}, backed by a {@link MeterTelemetryCollector} over an OpenTelemetry
+ * SDK with an in-memory reader. Every {@code sampleTicks} ticks a snapshot is rebuilt, the standard
+ * sampler runs and the reader collects, as the exporter would. The report lists event throughput
+ * and allocation of the listener path, the cost of each publish and the exported series.
+ *
+ * <p>Arguments are {@code key=value} pairs: {@code workload} ({@code join-storm}, {@code mob-farm},
+ * {@code elytra} or {@code all}), {@code players}, {@code viewDistance}, {@code seconds},
+ * {@code warmupSeconds}, {@code sampleTicks}, {@code chunkMode} ({@code off}, {@code light},
+ * {@code heavy}), {@code topK}, {@code staleSeriesCycles} and {@code seed}.
+ */
+public final class LoadHarness {
+    private final TelemetryState state;
+    private final ChunkCounterListener chunkListener;
+    private final EntityCounterListener entityListener;
+    private final TickDurationRecorder tickRecorder;
+    private final PaperStandardSnapshotTelemetrySampler sampler;
+    private final MeterTelemetryCollector collector;
+    private final InMemoryMetricReader reader;
+    private final int sampleTicks;
+    private final int staleSeriesCycles;
+    private int ticksSincePublish;
+    private long publishes;
+    private long publishNanos;
+    private int peakSeries;
+
+    private LoadHarness(SdkMeterProvider meterProvider, InMemoryMetricReader reader, Map<String, String> args) {
+        this.reader = reader;
+        this.collector = new MeterTelemetryCollector(meterProvider.get("minecraft-otel-harness"));
+        this.state = new TelemetryState();
+        EntitiesByChunkMode chunkMode = EntitiesByChunkMode.fromString(args.getOrDefault("chunkMode", "heavy"));
+        state.setEntityTypeChunkMode(chunkMode == null ? EntitiesByChunkMode.HEAVY : chunkMode);
+        state.setEntityEventsAvailable(true);
+        this.chunkListener = new ChunkCounterListener(state, collector);
+        this.entityListener = new EntityCounterListener(state, collector);
+        this.tickRecorder = new TickDurationRecorder(null, collector, new TickTimeWindow());
+        this.sampler = new PaperStandardSnapshotTelemetrySampler(intArg(args, "topK", 200), 1);
+        this.sampleTicks = Math.max(1, intArg(args, "sampleTicks", 20));
+        this.staleSeriesCycles = Math.max(0, intArg(args, "staleSeriesCycles", 5));
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @param argv {@code key=value} arguments
+     */
+    public static void main(String[] argv) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            int split = arg.indexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            args.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        String workloadArg = args.getOrDefault("workload", "all");
+        List<Workload> workloads = workloadArg.equals("all")
+                ? List.of(Workload.values())
+                : List.of(Workload.fromId(workloadArg));
+        Workload.Options options = new Workload.Options(
+                Math.max(1, intArg(args, "players", 100)),
+                Math.max(2, Math.min(32, intArg(args, "viewDistance", 8)))
+        );
+        long seed = Long.parseLong(args.getOrDefault("seed", "42"));
+        int seconds = Math.max(1, intArg(args, "seconds", 10));
+        int warmupSeconds = Math.max(0, intArg(args, "warmupSeconds", 3));
+
+        for (Workload workload : workloads) {
+            EventStream stream = new EventStream(BukkitStubs.world("world"));
+            workload.build(stream, options, new SplittableRandom(seed));
+            List<Event> events = stream.events();
+            System.out.printf(
+                    Locale.ROOT,
+                    "%s: %d events over %d ticks per pass (players=%d, viewDistance=%d)%n",
+                    workload.id(),
+                    events.size(),
+                    stream.ticks(),
+                    options.players(),
+                    options.viewDistance()
+            );
+            InMemoryMetricReader reader = InMemoryMetricReader.create();
+            try (SdkMeterProvider meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build()) {
+                LoadHarness harness = new LoadHarness(meterProvider, reader, args);
+                harness.run(events, warmupSeconds * 1_000_000_000L);
+                harness.resetStats();
+                Result result = harness.run(events, seconds * 1_000_000_000L);
+                harness.report(result);
+            }
+        }
+    }
+
+    private Result run(List<Event> events, long durationNanos) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long dispatchedEvents = 0L;
+        long dispatchNanos = 0L;
+        long dispatchBytes = 0L;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < durationNanos) {
+            int from = 0;
+            while (from < events.size()) {
+                int to = from;
+                while (to < events.size() && !(events.get(to) instanceof ServerTickEndEvent)) {
+                    to++;
+                }
+                to = Math.min(events.size(), to + 1);
+                long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+                long nanosBefore = System.nanoTime();
+                for (int i = from; i < to; i++) {
+                    dispatch(events.get(i));
+                }
+                dispatchNanos += System.nanoTime() - nanosBefore;
+                dispatchBytes += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+                dispatchedEvents += to - from;
+                from = to;
+                if (events.get(to - 1) instanceof ServerTickEndEvent && ++ticksSincePublish >= sampleTicks) {
+                    ticksSincePublish = 0;
+                    publish();
+                }
+            }
+        }
+        return new Result(dispatchedEvents, dispatchNanos, dispatchBytes);
+    }
+
+    private void dispatch(Event event) {
+        if (event instanceof EntityAddToWorldEvent add) {
+            entityListener.onEntityAdd(add);
+        } else if (event instanceof EntityRemoveFromWorldEvent remove) {
+            entityListener.onEntityRemove(remove);
+        } else if (event instanceof ChunkLoadEvent load) {
+            chunkListener.onChunkLoad(load);
+        } else if (event instanceof ChunkUnloadEvent unload) {
+            chunkListener.onChunkUnload(unload);
+        } else if (event instanceof PlayerChunkLoadEvent playerLoad) {
+            chunkListener.onPlayerChunkLoad(playerLoad);
+        } else if (event instanceof PlayerChunkUnloadEvent playerUnload) {
+            chunkListener.onPlayerChunkUnload(playerUnload);
+        } else if (event instanceof ServerTickEndEvent tickEnd) {
+            tickRecorder.onTickEnd(tickEnd);
+        }
+    }
+
+    private void publish() {
+        long start = System.nanoTime();
+        PaperTelemetrySnapshot snapshot = state.rebuildSnapshot(0L, null, null, null, null, null, null, null);
+        sampler.sample(snapshot, collector);
+        collector.completeCycle(staleSeriesCycles);
+        int series = 0;
+        for (MetricData metric : reader.collectAllMetrics()) {
+            series += metric.getData().getPoints().size();
+        }
+        publishNanos += System.nanoTime() - start;
+        publishes++;
+        peakSeries = Math.max(peakSeries, series);
+    }
+
+    private void resetStats() {
+        publishes = 0L;
+        publishNanos = 0L;
+        peakSeries = 0;
+    }
+
+    private void report(Result result) {
+        double seconds = result.dispatchNanos() / 1_000_000_000d;
+        System.out.printf(
+                Locale.ROOT,
+                "  events/sec: %,.0f (%,d events, %.1f ns/event)%n",
+                result.events() / seconds,
+                result.events(),
+                result.dispatchNanos() / (double) Math.max(1L, result.events())
+        );
+        System.out.printf(
+                Locale.ROOT,
+                "  allocation: %,.1f MB/s, %.1f B/event%n",
+                result.bytes() / seconds / (1024d * 1024d),
+                result.bytes() / (double) Math.max(1L, result.events())
+        );
+        System.out.printf(
+                Locale.ROOT,
+                "  publish: %d samples, %.1f us/sample%n",
+                publishes,
+                publishNanos / 1_000d / Math.max(1L, publishes)
+        );
+        Map<String, Integer> seriesByMetric = new TreeMap<>();
+        int series = 0;
+        for (MetricData metric : reader.collectAllMetrics()) {
+            int points = metric.getData().getPoints().size();
+            seriesByMetric.put(metric.getName(), points);
+            series += points;
+        }
+        System.out.printf(Locale.ROOT, "  exported series: %d (peak %d)%n", series, Math.max(series, peakSeries));
+        seriesByMetric.forEach((name, points) -> System.out.println("    " + name + ": " + points));
+    }
+
+    private static int intArg(Map<String, String> args, String key, int defaultValue) {
+        String value = args.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private record Result(long events, long dispatchNanos, long bytes) {
+    }
+}
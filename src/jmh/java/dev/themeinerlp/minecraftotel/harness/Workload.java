@@ -0,0 +1,208 @@
+package dev.themeinerlp.minecraftotel.harness;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * Synthetic workloads replayed by the {@link LoadHarness}.
+ */
+enum Workload {
+    /**
+     * Players join in bursts around spawn, load their view, stay for a while and leave together.
+     */
+    JOIN_STORM {
+        @Override
+        void build(EventStream stream, Options options, SplittableRandom random) {
+            int radius = options.viewDistance();
+            List<Player> players = new ArrayList<>();
+            List<int[]> centers = new ArrayList<>();
+            int joined = 0;
+            while (joined < options.players()) {
+                int burst = Math.min(options.players() - joined, 20);
+                for (int i = 0; i < burst; i++, joined++) {
+                    Player player = stream.player("player-" + joined);
+                    int[] center = {random.nextInt(-32, 33), random.nextInt(-32, 33)};
+                    for (int x = -radius; x <= radius; x++) {
+                        for (int z = -radius; z <= radius; z++) {
+                            if (stream.view(player, center[0] + x, center[1] + z)) {
+                                Chunk chunk = stream.chunk(center[0] + x, center[1] + z);
+                                stream.spawn(EntityType.COW, chunk, false);
+                                if (random.nextInt(4) == 0) {
+                                    stream.spawn(EntityType.ZOMBIE, chunk, true);
+                                }
+                            }
+                        }
+                    }
+                    players.add(player);
+                    centers.add(center);
+                }
+                stream.tick(40d + random.nextDouble(40d));
+            }
+            for (int i = 0; i < 100; i++) {
+                stream.tick(20d + random.nextDouble(10d));
+            }
+            for (int p = 0; p < players.size(); p++) {
+                int[] center = centers.get(p);
+                for (int x = -radius; x <= radius; x++) {
+                    for (int z = -radius; z <= radius; z++) {
+                        stream.unview(players.get(p), center[0] + x, center[1] + z);
+                    }
+                }
+                if (p % 20 == 19) {
+                    stream.tick(30d + random.nextDouble(20d));
+                }
+            }
+            stream.tick(15d + random.nextDouble(5d));
+        }
+    },
+    /**
+     * One AFK player keeps a mob farm loaded; hostile mobs spawn every tick, die after two
+     * seconds and drop items that are picked up a second later.
+     */
+    MOB_FARM {
+        private static final EntityType[] MOBS = {EntityType.ZOMBIE, EntityType.SKELETON, EntityType.CREEPER, EntityType.SPIDER};
+
+        @Override
+        void build(EventStream stream, Options options, SplittableRandom random) {
+            Player player = stream.player("afk");
+            int radius = options.viewDistance();
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    stream.view(player, x, z);
+                }
+            }
+            ArrayDeque<Entity[]> mobsByTick = new ArrayDeque<>();
+            ArrayDeque<Entity[]> itemsByTick = new ArrayDeque<>();
+            int spawnsPerTick = Math.max(1, options.players());
+            for (int tick = 0; tick < 1200; tick++) {
+                Entity[] mobs = new Entity[spawnsPerTick];
+                for (int i = 0; i < spawnsPerTick; i++) {
+                    Chunk chunk = stream.chunk(random.nextInt(-2, 2), random.nextInt(-2, 2));
+                    mobs[i] = stream.spawn(MOBS[random.nextInt(MOBS.length)], chunk, true);
+                }
+                mobsByTick.addLast(mobs);
+                if (mobsByTick.size() > 40) {
+                    Entity[] dying = mobsByTick.removeFirst();
+                    Entity[] drops = new Entity[dying.length];
+                    for (int i = 0; i < dying.length; i++) {
+                        stream.despawn(dying[i]);
+                        drops[i] = stream.spawn(EntityType.ITEM, dying[i].getChunk(), false);
+                    }
+                    itemsByTick.addLast(drops);
+                }
+                if (itemsByTick.size() > 20) {
+                    for (Entity item : itemsByTick.removeFirst()) {
+                        stream.despawn(item);
+                    }
+                }
+                stream.tick(25d + random.nextDouble(15d));
+            }
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    stream.unview(player, x, z);
+                }
+            }
+            stream.tick(15d + random.nextDouble(5d));
+        }
+    },
+    /**
+     * Players fly in straight lanes with elytra, generating a new column of chunks every few
+     * ticks and dropping the column behind them.
+     */
+    ELYTRA {
+        private static final int TICKS_PER_CHUNK = 8;
+        private static final int DISTANCE_CHUNKS = 150;
+
+        @Override
+        void build(EventStream stream, Options options, SplittableRandom random) {
+            int radius = options.viewDistance();
+            int flyers = Math.max(1, Math.min(options.players(), 64));
+            Player[] players = new Player[flyers];
+            for (int p = 0; p < flyers; p++) {
+                players[p] = stream.player("flyer-" + p);
+                for (int x = -radius; x <= radius; x++) {
+                    for (int z = -radius; z <= radius; z++) {
+                        stream.view(players[p], x, lane(p) + z);
+                    }
+                }
+            }
+            for (int step = 1; step <= DISTANCE_CHUNKS; step++) {
+                for (int p = 0; p < flyers; p++) {
+                    int lane = lane(p);
+                    for (int z = -radius; z <= radius; z++) {
+                        if (stream.view(players[p], step + radius, lane + z)) {
+                            Chunk chunk = stream.chunk(step + radius, lane + z);
+                            stream.spawn(EntityType.SQUID, chunk, false);
+                            stream.spawn(random.nextBoolean() ? EntityType.SHEEP : EntityType.PIG, chunk, false);
+                        }
+                        stream.unview(players[p], step - 1 - radius, lane + z);
+                    }
+                }
+                for (int t = 0; t < TICKS_PER_CHUNK; t++) {
+                    stream.tick(30d + random.nextDouble(25d));
+                }
+            }
+            for (int p = 0; p < flyers; p++) {
+                for (int x = DISTANCE_CHUNKS - radius; x <= DISTANCE_CHUNKS + radius; x++) {
+                    for (int z = -radius; z <= radius; z++) {
+                        stream.unview(players[p], x, lane(p) + z);
+                    }
+                }
+            }
+            stream.tick(15d + random.nextDouble(5d));
+        }
+
+        private static int lane(int player) {
+            return player * 100;
+        }
+    };
+
+    /**
+     * Appends the events of one pass of this workload.
+     *
+     * @param stream stream to append to
+     * @param options harness options
+     * @param random seeded random source
+     */
+    abstract void build(EventStream stream, Options options, SplittableRandom random);
+
+    /**
+     * Returns the command line name of this workload.
+     *
+     * @return lower-case name with dashes
+     */
+    String id() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Resolves a workload from its command line name.
+     *
+     * @param id workload name
+     * @return workload
+     */
+    static Workload fromId(String id) {
+        for (Workload workload : values()) {
+            if (workload.id().equals(id)) {
+                return workload;
+            }
+        }
+        throw new IllegalArgumentException("Unknown workload: " + id);
+    }
+
+    /**
+     * Workload shape parameters.
+     *
+     * @param players players joining, farm spawns per tick or elytra flyers
+     * @param viewDistance view distance in chunks
+     */
+    record Options(int players, int viewDistance) {
+    }
+}
@@ -0,0 +1,102 @@
+package dev.themeinerlp.minecraftotel.paper.metrics;
+
+import dev.themeinerlp.minecraftotel.api.collector.MeterTelemetryCollector;
+import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import dev.themeinerlp.minecraftotel.stub.BukkitStubs;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures one {@link PaperStandardSnapshotTelemetrySampler#sample} call per sampling cycle.
+ *
+ * <p>Consecutive samples alternate between two snapshots that differ in 100 per-chunk keys,
+ * which is what diff recording ({@code keyframeEvery} above 1) benefits from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StandardSamplerBenchmark {
+    private static final String[] TYPE_KEYS = {"minecraft:zombie", "minecraft:cow", "minecraft:item", "minecraft:arrow"};
+
+    @Param({"1000", "100000"})
+    public int keys;
+
+    @Param({"0", "200"})
+    public int topK;
+
+    @Param({"1", "4"})
+    public int keyframeEvery;
+
+    private SdkMeterProvider meterProvider;
+    private MeterTelemetryCollector collector;
+    private PaperStandardSnapshotTelemetrySampler sampler;
+    private PaperTelemetrySnapshot[] snapshots;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        meterProvider = SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+        collector = new MeterTelemetryCollector(meterProvider.get("minecraft-otel-benchmark"));
+        sampler = new PaperStandardSnapshotTelemetrySampler(topK, keyframeEvery);
+
+        TelemetryState state = new TelemetryState();
+        state.setEntityTypeChunkMode(EntitiesByChunkMode.HEAVY);
+        Map<ChunkEntityKey, Long> baseline = new HashMap<>(keys * 2);
+        int side = (int) Math.ceil(Math.sqrt(keys / (double) TYPE_KEYS.length));
+        for (int i = 0; i < keys; i++) {
+            int chunk = i / TYPE_KEYS.length;
+            baseline.put(
+                    new ChunkEntityKey("world", chunk % side, chunk / side, TYPE_KEYS[i % TYPE_KEYS.length]),
+                    1L + (i & 7)
+            );
+        }
+        PaperTelemetrySnapshot first = state.rebuildSnapshot(
+                10L,
+                new double[] {20d, 20d, 20d},
+                42d,
+                48d,
+                Map.of("world", (long) keys),
+                null,
+                baseline,
+                Map.of("world", (long) side * side)
+        );
+        World world = BukkitStubs.world("world");
+        for (int i = 0; i < 100; i++) {
+            state.incrementEntityTypeInChunk(
+                    BukkitStubs.entity(EntityType.ZOMBIE, BukkitStubs.chunk(world, i % side, i / side), true)
+            );
+        }
+        PaperTelemetrySnapshot second = state.rebuildSnapshot(10L, new double[] {20d, 20d, 20d}, 42d, 48d, null, null, null, null);
+        snapshots = new PaperTelemetrySnapshot[] {first, second};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        meterProvider.close();
+    }
+
+    @Benchmark
+    public void sample() {
+        next ^= 1;
+        sampler.sample(snapshots[next], collector);
+        collector.completeCycle(5);
+    }
+}
@@ -0,0 +1,73 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the previous synchronized HashMap gauge against {@link GaugeCounters} under contention.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the thread count can be changed with the {@code threads}
+ * property of the Gradle {@code jmh} extension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class GaugeContentionBenchmark {
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "farm"};
+
+    private Map<String, Long> synchronizedGauge;
+    private GaugeCounters<String> gaugeCounters;
+
+    @Setup
+    public void setUp() {
+        synchronizedGauge = new HashMap<>();
+        gaugeCounters = new GaugeCounters<>();
+        for (String world : WORLDS) {
+            synchronizedGauge.put(world, 0L);
+            gaugeCounters.add(world, 0L);
+        }
+    }
+
+    @Benchmark
+    public void synchronizedHashMap(ThreadCursor cursor) {
+        String world = cursor.nextWorld();
+        synchronized (synchronizedGauge) {
+            synchronizedGauge.merge(world, 1L, Long::sum);
+        }
+    }
+
+    @Benchmark
+    public void longAdderCells(ThreadCursor cursor) {
+        gaugeCounters.add(cursor.nextWorld(), 1L);
+    }
+
+    /**
+     * Per-thread world selection so threads spread over the keys like region threads would.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        private int index;
+
+        @Setup
+        public void setUp() {
+            index = ThreadLocalRandom.current().nextInt(WORLDS.length);
+        }
+
+        String nextWorld() {
+            String world = WORLDS[index];
+            index = (index + 1) & (WORLDS.length - 1);
+            return world;
+        }
+    }
+}
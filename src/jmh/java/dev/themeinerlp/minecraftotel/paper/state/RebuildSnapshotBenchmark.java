@@ -0,0 +1,87 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+import dev.themeinerlp.minecraftotel.stub.BukkitStubs;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link TelemetryState#rebuildSnapshot} with 1k, 100k and 1M entity type per chunk keys.
+ *
+ * <p>{@code idle} publishes without changes, {@code churn} after 100 changed keys, and
+ * {@code baseline} replaces every key as a completed baseline scan does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RebuildSnapshotBenchmark {
+    private static final String[] TYPE_KEYS = {"minecraft:zombie", "minecraft:cow", "minecraft:item", "minecraft:arrow"};
+    private static final int CHANGED_KEYS = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int keys;
+
+    private TelemetryState state;
+    private Map<ChunkEntityKey, Long> baseline;
+    private Entity[] changed;
+    private boolean add;
+
+    @Setup
+    public void setUp() {
+        state = new TelemetryState();
+        state.setEntityTypeChunkMode(EntitiesByChunkMode.HEAVY);
+        baseline = new HashMap<>(keys * 2);
+        int side = (int) Math.ceil(Math.sqrt(keys / (double) TYPE_KEYS.length));
+        for (int i = 0; i < keys; i++) {
+            int chunk = i / TYPE_KEYS.length;
+            baseline.put(
+                    new ChunkEntityKey("world", chunk % side, chunk / side, TYPE_KEYS[i % TYPE_KEYS.length]),
+                    1L + (i & 7)
+            );
+        }
+        state.rebuildSnapshot(1L, null, null, null, null, null, baseline, null);
+
+        World world = BukkitStubs.world("world");
+        changed = new Entity[CHANGED_KEYS];
+        for (int i = 0; i < CHANGED_KEYS; i++) {
+            changed[i] = BukkitStubs.entity(EntityType.ZOMBIE, BukkitStubs.chunk(world, i % side, i / side), true);
+        }
+    }
+
+    @Benchmark
+    public PaperTelemetrySnapshot idle() {
+        return state.rebuildSnapshot(1L, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PaperTelemetrySnapshot churn() {
+        add = !add;
+        for (Entity entity : changed) {
+            if (add) {
+                state.incrementEntityTypeInChunk(entity);
+            } else {
+                state.decrementEntityTypeInChunk(entity);
+            }
+        }
+        return state.rebuildSnapshot(1L, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PaperTelemetrySnapshot baseline() {
+        return state.rebuildSnapshot(1L, null, null, null, null, null, baseline, null);
+    }
+}
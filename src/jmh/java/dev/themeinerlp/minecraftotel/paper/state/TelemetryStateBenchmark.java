@@ -0,0 +1,135 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
+import dev.themeinerlp.minecraftotel.stub.BukkitStubs;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the entity and chunk event paths of {@link TelemetryState} at 1, 8 and 32 threads.
+ *
+ * <p>Each operation is one add followed by one remove, like an entity that spawns and despawns,
+ * so the gauges stay bounded over long runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TelemetryStateBenchmark {
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "farm"};
+    private static final EntityType[] TYPES = {
+            EntityType.ZOMBIE, EntityType.SKELETON, EntityType.COW, EntityType.ITEM,
+            EntityType.VILLAGER, EntityType.CREEPER, EntityType.PIG, EntityType.ARROW
+    };
+    private static final int ENTITY_COUNT = 4096;
+
+    private TelemetryState state;
+    private Entity[] entities;
+
+    @Setup
+    public void setUp() {
+        state = new TelemetryState();
+        state.setEntityTypeChunkMode(EntitiesByChunkMode.HEAVY);
+        World[] worlds = new World[WORLDS.length];
+        for (int i = 0; i < worlds.length; i++) {
+            worlds[i] = BukkitStubs.world(WORLDS[i]);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        entities = new Entity[ENTITY_COUNT];
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            World world = worlds[i % worlds.length];
+            entities[i] = BukkitStubs.entity(
+                    TYPES[random.nextInt(TYPES.length)],
+                    BukkitStubs.chunk(world, random.nextInt(-64, 64), random.nextInt(-64, 64)),
+                    false
+            );
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void entityChurn1Thread(Cursor cursor) {
+        churn(cursor.next(entities));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void entityChurn8Threads(Cursor cursor) {
+        churn(cursor.next(entities));
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void entityChurn32Threads(Cursor cursor) {
+        churn(cursor.next(entities));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void playerChunkViewers1Thread(Cursor cursor) {
+        viewers(cursor);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void playerChunkViewers8Threads(Cursor cursor) {
+        viewers(cursor);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void playerChunkViewers32Threads(Cursor cursor) {
+        viewers(cursor);
+    }
+
+    private void churn(Entity entity) {
+        String worldName = entity.getWorld().getName();
+        state.incrementEntity(worldName);
+        state.incrementEntityType(entity.getType());
+        state.incrementEntityTypeInChunk(entity);
+        state.decrementEntity(worldName);
+        state.decrementEntityType(entity.getType());
+        state.decrementEntityTypeInChunk(entity);
+    }
+
+    private void viewers(Cursor cursor) {
+        String world = WORLDS[cursor.index & (WORLDS.length - 1)];
+        int x = cursor.nextCoordinate();
+        int z = cursor.nextCoordinate();
+        state.recordPlayerChunkLoad(world, x, z);
+        state.recordPlayerChunkUnload(world, x, z);
+    }
+
+    /**
+     * Per-thread position so threads walk different entities and chunks.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        @Setup
+        public void setUp() {
+            index = ThreadLocalRandom.current().nextInt(ENTITY_COUNT);
+        }
+
+        Entity next(Entity[] entities) {
+            index = (index + 1) & (ENTITY_COUNT - 1);
+            return entities[index];
+        }
+
+        int nextCoordinate() {
+            index = index * 1_103_515_245 + 12_345;
+            return (index >>> 16) % 256 - 128;
+        }
+    }
+}
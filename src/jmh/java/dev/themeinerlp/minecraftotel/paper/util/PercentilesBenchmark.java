@@ -0,0 +1,60 @@
+package dev.themeinerlp.minecraftotel.paper.util;
+
+import dev.themeinerlp.minecraftotel.paper.snapshot.MsptPercentiles;
+import dev.themeinerlp.minecraftotel.paper.tick.TickTimeWindow;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the sort-based {@link Percentiles#p95Ms} over the server's 100 tick times with the
+ * streaming {@link TickTimeWindow} used for the MSPT percentile gauges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PercentilesBenchmark {
+    private long[] tickTimesNanos;
+    private double[] tickMillis;
+    private TickTimeWindow window;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        tickTimesNanos = new long[100];
+        for (int i = 0; i < tickTimesNanos.length; i++) {
+            tickTimesNanos[i] = (long) (random.nextDouble(20d, 60d) * 1_000_000d);
+        }
+        tickMillis = new double[1024];
+        for (int i = 0; i < tickMillis.length; i++) {
+            tickMillis[i] = random.nextInt(100) == 0 ? random.nextDouble(60d, 500d) : random.nextDouble(20d, 60d);
+        }
+        window = new TickTimeWindow();
+        for (int i = 0; i < TickTimeWindow.WINDOW_TICKS * 2; i++) {
+            window.record(tickMillis[i & (tickMillis.length - 1)]);
+        }
+    }
+
+    @Benchmark
+    public Double sortedP95() {
+        return Percentiles.p95Ms(tickTimesNanos);
+    }
+
+    @Benchmark
+    public void windowRecord() {
+        next = (next + 1) & (tickMillis.length - 1);
+        window.record(tickMillis[next]);
+    }
+
+    @Benchmark
+    public MsptPercentiles windowPercentiles() {
+        return window.percentiles();
+    }
+}
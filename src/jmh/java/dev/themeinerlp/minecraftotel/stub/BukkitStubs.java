@@ -0,0 +1,123 @@
+package dev.themeinerlp.minecraftotel.stub;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Enemy;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+/**
+ * Minimal Bukkit objects for benchmarks and the load harness, backed by dynamic proxies.
+ *
+ * <p>Only the getters MinecraftOTEL reads are answered; every other method returns the default
+ * value of its return type. Stubs have identity semantics for {@code equals}/{@code hashCode}.
+ */
+public final class BukkitStubs {
+    private BukkitStubs() {
+    }
+
+    /**
+     * Creates a world stub.
+     *
+     * @param name world name
+     * @return world
+     */
+    public static World world(String name) {
+        return stub(World.class, new Class<?>[0], Map.of("getName", name));
+    }
+
+    /**
+     * Creates a chunk stub.
+     *
+     * @param world owning world
+     * @param x chunk X coordinate
+     * @param z chunk Z coordinate
+     * @return chunk
+     */
+    public static Chunk chunk(World world, int x, int z) {
+        return stub(Chunk.class, new Class<?>[0], Map.of("getWorld", world, "getX", x, "getZ", z));
+    }
+
+    /**
+     * Creates an entity stub. Living and hostile entities also implement {@link LivingEntity} and
+     * {@link Enemy}, so the light per-chunk mode classifies them like real entities.
+     *
+     * @param type entity type
+     * @param chunk chunk the entity is in
+     * @param hostile whether the entity is a living hostile mob
+     * @return entity
+     */
+    public static Entity entity(EntityType type, Chunk chunk, boolean hostile) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getType", type);
+        values.put("getChunk", chunk);
+        values.put("getWorld", chunk.getWorld());
+        Class<?>[] extra = hostile
+                ? new Class<?>[] {LivingEntity.class, Enemy.class}
+                : type.isAlive() ? new Class<?>[] {LivingEntity.class} : new Class<?>[0];
+        return stub(Entity.class, extra, values);
+    }
+
+    /**
+     * Creates a player stub.
+     *
+     * @param name player name
+     * @param world world the player is in
+     * @return player
+     */
+    public static Player player(String name, World world) {
+        return stub(Player.class, new Class<?>[0], Map.of("getName", name, "getWorld", world, "getType", EntityType.PLAYER));
+    }
+
+    private static <T> T stub(Class<T> type, Class<?>[] extraInterfaces, Map<String, Object> values) {
+        Class<?>[] interfaces = new Class<?>[extraInterfaces.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(extraInterfaces, 0, interfaces, 1, extraInterfaces.length);
+        Object proxy = Proxy.newProxyInstance(
+                BukkitStubs.class.getClassLoader(),
+                interfaces,
+                (self, method, args) -> switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "toString" -> type.getSimpleName() + values;
+                    default -> values.containsKey(method.getName())
+                            ? values.get(method.getName())
+                            : defaultValue(method.getReturnType());
+                }
+        );
+        return type.cast(proxy);
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+        if (!returnType.isPrimitive() || returnType == void.class) {
+            return null;
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == double.class) {
+            return 0d;
+        }
+        if (returnType == float.class) {
+            return 0f;
+        }
+        if (returnType == char.class) {
+            return (char) 0;
+        }
+        if (returnType == byte.class) {
+            return (byte) 0;
+        }
+        if (returnType == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
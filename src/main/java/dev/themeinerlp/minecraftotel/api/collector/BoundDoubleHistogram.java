@@ -0,0 +1,17 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+/**
+ * Double histogram bound to a fixed attribute set.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+@FunctionalInterface
+public interface BoundDoubleHistogram {
+    /**
+     * Records a value.
+     *
+     * @param value histogram value
+     */
+    void record(double value);
+}
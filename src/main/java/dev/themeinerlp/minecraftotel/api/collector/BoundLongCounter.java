@@ -0,0 +1,17 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+/**
+ * Long counter bound to a fixed attribute set.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+@FunctionalInterface
+public interface BoundLongCounter {
+    /**
+     * Adds a delta to the counter.
+     *
+     * @param delta increment amount
+     */
+    void add(long delta);
+}
@@ -0,0 +1,17 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+/**
+ * Long gauge bound to a fixed attribute set.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+@FunctionalInterface
+public interface BoundLongGauge {
+    /**
+     * Records a value.
+     *
+     * @param value gauge value
+     */
+    void record(long value);
+}
@@ -0,0 +1,39 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+import io.opentelemetry.api.common.Attributes;
+
+/**
+ * Reusable handle to a double gauge, resolved once by metric name.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public interface DoubleGaugeHandle {
+    /**
+     * Records a value.
+     *
+     * @param value gauge value
+     * @param attributes metric attributes
+     */
+    void record(double value, Attributes attributes);
+
+    /**
+     * Records a value without attributes.
+     *
+     * @param value gauge value
+     */
+    default void record(double value) {
+        record(value, Attributes.empty());
+    }
+
+    /**
+     * Binds the handle to a fixed attribute set.
+     *
+     * @param attributes metric attributes
+     * @return bound handle
+     */
+    default BoundDoubleGauge bind(Attributes attributes) {
+        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+        return value -> record(value, attrs);
+    }
+}
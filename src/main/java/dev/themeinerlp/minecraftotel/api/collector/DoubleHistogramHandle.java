@@ -0,0 +1,39 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+import io.opentelemetry.api.common.Attributes;
+
+/**
+ * Reusable handle to a double histogram, resolved once by metric name.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public interface DoubleHistogramHandle {
+    /**
+     * Records a value.
+     *
+     * @param value histogram value
+     * @param attributes metric attributes
+     */
+    void record(double value, Attributes attributes);
+
+    /**
+     * Records a value without attributes.
+     *
+     * @param value histogram value
+     */
+    default void record(double value) {
+        record(value, Attributes.empty());
+    }
+
+    /**
+     * Binds the handle to a fixed attribute set.
+     *
+     * @param attributes metric attributes
+     * @return bound handle
+     */
+    default BoundDoubleHistogram bind(Attributes attributes) {
+        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+        return value -> record(value, attrs);
+    }
+}
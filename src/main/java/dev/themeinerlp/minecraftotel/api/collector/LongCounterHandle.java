@@ -0,0 +1,39 @@
+package dev.themeinerlp.minecraftotel.api.collector;
+
+import io.opentelemetry.api.common.Attributes;
+
+/**
+ * Reusable handle to a long counter, resolved once by metric name.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public interface LongCounterHandle {
+    /**
+     * Adds a delta to the counter.
+     *
+     * @param delta increment amount
+     * @param attributes metric attributes
+     */
+    void add(long delta, Attributes attributes);
+
+    /**
+     * Adds a delta to the counter without attributes.
+     *
+     * @param delta increment amount
+     */
+    default void add(long delta) {
+        add(delta, Attributes.empty());
+    }
+
+    /**
+     * Binds the counter to a fixed attribute set.
+     *
+     * @param attributes metric attributes
+     * @return bound counter
+     */
+    default BoundLongCounter bind(Attributes attributes) {
+        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+        return delta -> add(delta, attrs);
+    }
+}
@@ -1,19 +1,29 @@
 package dev.themeinerlp.minecraftotel.api.collector;
 
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.LongCounterBuilder;
 import io.opentelemetry.api.metrics.Meter;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TelemetryCollector backed by OpenTelemetry instruments.
  *
+ * <p>Gauge series in the {@link StandardMetrics#NAMESPACE} namespace are recorded by the built-in
+ * samplers on every cycle and are evicted by {@link #completeCycle(int)}: every recorded series
+ * is stamped with the current sampling cycle, and series that were not recorded again within the
+ * configured number of cycles are dropped and no longer exported. Gauges with any other name
+ * belong to third-party samplers, which may record less often than once per cycle; their series
+ * are never evicted and keep their last recorded value. The number of live gauge series per
+ * metric is exported as {@link StandardMetrics#TELEMETRY_SERIES_LIVE}.
+ *
  * @since 1.1.0
- * @version 1.1.0
+ * @version 1.6.0
  */
 public final class MeterTelemetryCollector implements TelemetryCollector {
     private final Meter meter;
@@ -21,6 +31,7 @@ public final class MeterTelemetryCollector implements TelemetryCollector {
     private final Map<String, DoubleGaugeStore> doubleGauges;
     private final Map<String, LongCounter> longCounters;
     private final Map<String, DoubleHistogram> doubleHistograms;
+    private volatile long generation;
 
     public MeterTelemetryCollector(Meter meter) {
         this.meter = meter;
@@ -28,91 +39,231 @@ public final class MeterTelemetryCollector implements TelemetryCollector {
         this.doubleGauges = new ConcurrentHashMap<>();
         this.longCounters = new ConcurrentHashMap<>();
         this.doubleHistograms = new ConcurrentHashMap<>();
+        meter.gaugeBuilder(StandardMetrics.TELEMETRY_SERIES_LIVE)
+                .ofLongs()
+                .setUnit(StandardMetrics.UNIT_COUNT)
+                .buildWithCallback(measurement -> {
+                    for (LongGaugeStore store : longGauges.values()) {
+                        measurement.record(store.values.size(), store.seriesAttributes);
+                    }
+                    for (DoubleGaugeStore store : doubleGauges.values()) {
+                        measurement.record(store.values.size(), store.seriesAttributes);
+                    }
+                });
+    }
+
+    /**
+     * Completes a sampling cycle and evicts gauge series that went stale.
+     *
+     * <p>Only gauges named in the {@link StandardMetrics#NAMESPACE} namespace are evicted; series
+     * of other gauges are kept until the server stops. Call once after all samplers of a cycle
+     * have recorded. A value recorded concurrently with the eviction may be dropped and reappears
+     * on its next recording.
+     *
+     * @param staleAfterCycles cycles a series may go without being recorded, 0 keeps all series
+     * @since 1.6.0
+     */
+    public void completeCycle(int staleAfterCycles) {
+        long completed = generation;
+        if (staleAfterCycles > 0) {
+            long threshold = completed - staleAfterCycles;
+            for (LongGaugeStore store : longGauges.values()) {
+                if (store.evictable) {
+                    store.evict(threshold);
+                }
+            }
+            for (DoubleGaugeStore store : doubleGauges.values()) {
+                if (store.evictable) {
+                    store.evict(threshold);
+                }
+            }
+        }
+        generation = completed + 1L;
     }
 
     @Override
     public void recordLongGauge(String name, long value, String unit, Attributes attributes) {
-        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
-        LongGaugeStore store = longGauges.computeIfAbsent(name, metricName ->
-                new LongGaugeStore(meter, metricName, unit)
-        );
-        store.record(value, attrs);
+        resolveLongGauge(name, unit).record(value, attributes);
     }
 
     @Override
     public void recordDoubleGauge(String name, double value, String unit, Attributes attributes) {
-        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
-        DoubleGaugeStore store = doubleGauges.computeIfAbsent(name, metricName ->
-                new DoubleGaugeStore(meter, metricName, unit)
-        );
-        store.record(value, attrs);
+        resolveDoubleGauge(name, unit).record(value, attributes);
     }
 
     @Override
     public void recordLongCounter(String name, long delta, String unit, Attributes attributes) {
         Attributes attrs = attributes == null ? Attributes.empty() : attributes;
-        LongCounter counter = longCounters.computeIfAbsent(name, metricName -> {
+        resolveLongCounter(name, unit).add(delta, attrs);
+    }
+
+    @Override
+    public void recordDoubleHistogram(String name, double value, String unit, Attributes attributes) {
+        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+        resolveDoubleHistogram(name, unit, null).record(value, attrs);
+    }
+
+    @Override
+    public LongGaugeHandle longGauge(String name, String unit) {
+        return resolveLongGauge(name, unit);
+    }
+
+    @Override
+    public DoubleGaugeHandle doubleGauge(String name, String unit) {
+        return resolveDoubleGauge(name, unit);
+    }
+
+    @Override
+    public LongCounterHandle longCounter(String name, String unit) {
+        return new MeterLongCounterHandle(resolveLongCounter(name, unit));
+    }
+
+    @Override
+    public DoubleHistogramHandle doubleHistogram(String name, String unit) {
+        return new MeterDoubleHistogramHandle(resolveDoubleHistogram(name, unit, null));
+    }
+
+    @Override
+    public DoubleHistogramHandle doubleHistogram(String name, String unit, List<Double> bucketBoundaries) {
+        return new MeterDoubleHistogramHandle(resolveDoubleHistogram(name, unit, bucketBoundaries));
+    }
+
+    private LongGaugeStore resolveLongGauge(String name, String unit) {
+        return longGauges.computeIfAbsent(name, metricName -> new LongGaugeStore(meter, metricName, unit));
+    }
+
+    private DoubleGaugeStore resolveDoubleGauge(String name, String unit) {
+        return doubleGauges.computeIfAbsent(name, metricName -> new DoubleGaugeStore(meter, metricName, unit));
+    }
+
+    private LongCounter resolveLongCounter(String name, String unit) {
+        return longCounters.computeIfAbsent(name, metricName -> {
             LongCounterBuilder builder = meter.counterBuilder(metricName);
             if (unit != null && !unit.isBlank()) {
                 builder.setUnit(unit);
             }
             return builder.build();
         });
-        counter.add(delta, attrs);
     }
 
-    @Override
-    public void recordDoubleHistogram(String name, double value, String unit, Attributes attributes) {
-        Attributes attrs = attributes == null ? Attributes.empty() : attributes;
-        DoubleHistogram histogram = doubleHistograms.computeIfAbsent(name, metricName -> {
+    private record MeterLongCounterHandle(LongCounter counter) implements LongCounterHandle {
+        @Override
+        public void add(long delta, Attributes attributes) {
+            counter.add(delta, attributes == null ? Attributes.empty() : attributes);
+        }
+
+        @Override
+        public BoundLongCounter bind(Attributes attributes) {
+            Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+            return delta -> counter.add(delta, attrs);
+        }
+    }
+
+    private DoubleHistogram resolveDoubleHistogram(String name, String unit, List<Double> bucketBoundaries) {
+        return doubleHistograms.computeIfAbsent(name, metricName -> {
             DoubleHistogramBuilder builder = meter.histogramBuilder(metricName);
             if (unit != null && !unit.isBlank()) {
                 builder.setUnit(unit);
             }
+            if (bucketBoundaries != null && !bucketBoundaries.isEmpty()) {
+                builder.setExplicitBucketBoundariesAdvice(bucketBoundaries);
+            }
             return builder.build();
         });
-        histogram.record(value, attrs);
     }
 
-    private static final class LongGaugeStore {
-        private final Map<Attributes, Long> values;
+    private record MeterDoubleHistogramHandle(DoubleHistogram histogram) implements DoubleHistogramHandle {
+        @Override
+        public void record(double value, Attributes attributes) {
+            histogram.record(value, attributes == null ? Attributes.empty() : attributes);
+        }
+
+        @Override
+        public BoundDoubleHistogram bind(Attributes attributes) {
+            Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+            return value -> histogram.record(value, attrs);
+        }
+    }
+
+    private final class LongGaugeStore implements LongGaugeHandle {
+        private final Map<Attributes, LongSeries> values;
+        private final Attributes seriesAttributes;
+        private final boolean evictable;
 
         private LongGaugeStore(Meter meter, String name, String unit) {
             this.values = new ConcurrentHashMap<>();
+            this.seriesAttributes = Attributes.of(StandardMetrics.METRIC_KEY, name);
+            this.evictable = name.startsWith(StandardMetrics.NAMESPACE);
             var builder = meter.gaugeBuilder(name).ofLongs();
             if (unit != null && !unit.isBlank()) {
                 builder.setUnit(unit);
             }
             builder.buildWithCallback(measurement -> {
-                for (Map.Entry<Attributes, Long> entry : values.entrySet()) {
-                    measurement.record(entry.getValue(), entry.getKey());
+                for (Map.Entry<Attributes, LongSeries> entry : values.entrySet()) {
+                    measurement.record(entry.getValue().value, entry.getKey());
                 }
             });
         }
 
-        private void record(long value, Attributes attributes) {
-            values.put(attributes, value);
+        @Override
+        public void record(long value, Attributes attributes) {
+            Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+            LongSeries series = values.get(attrs);
+            if (series == null) {
+                series = values.computeIfAbsent(attrs, ignored -> new LongSeries());
+            }
+            series.value = value;
+            series.generation = generation;
+        }
+
+        private void evict(long threshold) {
+            values.values().removeIf(series -> series.generation <= threshold);
         }
     }
 
-    private static final class DoubleGaugeStore {
-        private final Map<Attributes, Double> values;
+    private final class DoubleGaugeStore implements DoubleGaugeHandle {
+        private final Map<Attributes, DoubleSeries> values;
+        private final Attributes seriesAttributes;
+        private final boolean evictable;
 
         private DoubleGaugeStore(Meter meter, String name, String unit) {
             this.values = new ConcurrentHashMap<>();
+            this.seriesAttributes = Attributes.of(StandardMetrics.METRIC_KEY, name);
+            this.evictable = name.startsWith(StandardMetrics.NAMESPACE);
             var builder = meter.gaugeBuilder(name);
             if (unit != null && !unit.isBlank()) {
                 builder.setUnit(unit);
             }
             builder.buildWithCallback(measurement -> {
-                for (Map.Entry<Attributes, Double> entry : values.entrySet()) {
-                    measurement.record(entry.getValue(), entry.getKey());
+                for (Map.Entry<Attributes, DoubleSeries> entry : values.entrySet()) {
+                    measurement.record(entry.getValue().value, entry.getKey());
                 }
             });
         }
 
-        private void record(double value, Attributes attributes) {
-            values.put(attributes, value);
+        @Override
+        public void record(double value, Attributes attributes) {
+            Attributes attrs = attributes == null ? Attributes.empty() : attributes;
+            DoubleSeries series = values.get(attrs);
+            if (series == null) {
+                series = values.computeIfAbsent(attrs, ignored -> new DoubleSeries());
+            }
+            series.value = value;
+            series.generation = generation;
+        }
+
+        private void evict(long threshold) {
+            values.values().removeIf(series -> series.generation <= threshold);
         }
     }
+
+    private static final class LongSeries {
+        private volatile long value;
+        private volatile long generation;
+    }
+
+    private static final class DoubleSeries {
+        private volatile double value;
+        private volatile long generation;
+    }
 }
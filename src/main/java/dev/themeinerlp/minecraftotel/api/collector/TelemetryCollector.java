@@ -1,12 +1,18 @@
 package dev.themeinerlp.minecraftotel.api.collector;
 
 import io.opentelemetry.api.common.Attributes;
+import java.util.List;
 
 /**
  * Collector for turning telemetry samples into OpenTelemetry instruments.
  *
+ * <p>The string-keyed {@code record*} methods resolve the instrument by name on every call. Hot
+ * paths should resolve a handle once via {@link #longGauge(String, String)},
+ * {@link #doubleGauge(String, String)}, {@link #longCounter(String, String)} or
+ * {@link #doubleHistogram(String, String)} and record through it.
+ *
  * @since 1.1.0
- * @version 1.1.0
+ * @version 1.6.0
  */
 public interface TelemetryCollector {
     /**
@@ -88,4 +94,77 @@ public interface TelemetryCollector {
     default void recordDoubleHistogram(String name, double value) {
         recordDoubleHistogram(name, value, null, Attributes.empty());
     }
+
+    /**
+     * Returns a reusable handle to a long counter.
+     *
+     * <p>The default implementation delegates to {@link #recordLongCounter(String, long, String, Attributes)}.
+     *
+     * @param name metric name
+     * @param unit unit string or null for default
+     * @return counter handle
+     * @since 1.6.0
+     */
+    default LongCounterHandle longCounter(String name, String unit) {
+        return (delta, attributes) -> recordLongCounter(name, delta, unit, attributes);
+    }
+
+    /**
+     * Returns a reusable handle to a long gauge.
+     *
+     * <p>The default implementation delegates to {@link #recordLongGauge(String, long, String, Attributes)}.
+     *
+     * @param name metric name
+     * @param unit unit string or null for default
+     * @return gauge handle
+     * @since 1.6.0
+     */
+    default LongGaugeHandle longGauge(String name, String unit) {
+        return (value, attributes) -> recordLongGauge(name, value, unit, attributes);
+    }
+
+    /**
+     * Returns a reusable handle to a double gauge.
+     *
+     * <p>The default implementation delegates to {@link #recordDoubleGauge(String, double, String, Attributes)}.
+     *
+     * @param name metric name
+     * @param unit unit string or null for default
+     * @return gauge handle
+     * @since 1.6.0
+     */
+    default DoubleGaugeHandle doubleGauge(String name, String unit) {
+        return (value, attributes) -> recordDoubleGauge(name, value, unit, attributes);
+    }
+
+    /**
+     * Returns a reusable handle to a double histogram.
+     *
+     * <p>The default implementation delegates to {@link #recordDoubleHistogram(String, double, String, Attributes)}.
+     *
+     * @param name metric name
+     * @param unit unit string or null for default
+     * @return histogram handle
+     * @since 1.6.0
+     */
+    default DoubleHistogramHandle doubleHistogram(String name, String unit) {
+        return (value, attributes) -> recordDoubleHistogram(name, value, unit, attributes);
+    }
+
+    /**
+     * Returns a reusable handle to a double histogram with explicit bucket boundary advice.
+     *
+     * <p>The advice only applies when the histogram is created by this call, and the SDK may
+     * override it with a configured view or default aggregation. The default implementation
+     * ignores the advice.
+     *
+     * @param name metric name
+     * @param unit unit string or null for default
+     * @param bucketBoundaries ascending bucket boundaries or null for the SDK default
+     * @return histogram handle
+     * @since 1.6.0
+     */
+    default DoubleHistogramHandle doubleHistogram(String name, String unit, List<Double> bucketBoundaries) {
+        return doubleHistogram(name, unit);
+    }
 }
@@ -0,0 +1,25 @@
+package dev.themeinerlp.minecraftotel.api.fleet;
+
+/**
+ * Compact per-server summary that backends publish to the proxy for fleet-wide metrics.
+ *
+ * @param playersOnline online players
+ * @param entitiesLoaded loaded entities across all worlds, or -1 if not tracked
+ * @param chunksLoaded loaded chunks across all worlds
+ * @param tps1m TPS over the last minute, or NaN if unknown
+ * @param msptAvg average MSPT, or NaN if unknown
+ * @param msptP95 p95 MSPT, or NaN if unknown
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public record FleetSummary(
+        long playersOnline,
+        long entitiesLoaded,
+        long chunksLoaded,
+        double tps1m,
+        double msptAvg,
+        double msptP95
+) {
+    /** Plugin messaging channel the summaries are sent on. */
+    public static final String CHANNEL = "minecraftotel:fleet";
+}
@@ -0,0 +1,88 @@
+package dev.themeinerlp.minecraftotel.api.fleet;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of {@link FleetSummary} for plugin messages.
+ *
+ * <p>Layout: a format version byte, the three counts as unsigned varints (entities shifted by one
+ * so that -1 encodes as 0), then TPS and both MSPT values as 32-bit floats. A typical summary
+ * is 20 to 25 bytes.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public final class FleetSummaryCodec {
+    private static final byte VERSION = 1;
+    private static final int MAX_SIZE = 1 + 3 * 10 + 3 * Float.BYTES;
+
+    private FleetSummaryCodec() {
+    }
+
+    /**
+     * Encodes a summary.
+     *
+     * @param summary summary to encode
+     * @return encoded bytes
+     */
+    public static byte[] encode(FleetSummary summary) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_SIZE);
+        buffer.put(VERSION);
+        writeVarLong(buffer, Math.max(0L, summary.playersOnline()));
+        writeVarLong(buffer, Math.max(0L, summary.entitiesLoaded() + 1L));
+        writeVarLong(buffer, Math.max(0L, summary.chunksLoaded()));
+        buffer.putFloat((float) summary.tps1m());
+        buffer.putFloat((float) summary.msptAvg());
+        buffer.putFloat((float) summary.msptP95());
+        byte[] encoded = new byte[buffer.position()];
+        buffer.flip().get(encoded);
+        return encoded;
+    }
+
+    /**
+     * Decodes a summary.
+     *
+     * @param data encoded bytes
+     * @return decoded summary
+     * @throws IllegalArgumentException if the data is truncated or has an unknown version
+     */
+    public static FleetSummary decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported fleet summary version " + version);
+            }
+            long playersOnline = readVarLong(buffer);
+            long entitiesLoaded = readVarLong(buffer) - 1L;
+            long chunksLoaded = readVarLong(buffer);
+            double tps1m = buffer.getFloat();
+            double msptAvg = buffer.getFloat();
+            double msptP95 = buffer.getFloat();
+            return new FleetSummary(playersOnline, entitiesLoaded, chunksLoaded, tps1m, msptAvg, msptP95);
+        } catch (BufferUnderflowException exception) {
+            throw new IllegalArgumentException("Truncated fleet summary", exception);
+        }
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7FL) | 0x80L));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Fleet summary varint is too long");
+    }
+}
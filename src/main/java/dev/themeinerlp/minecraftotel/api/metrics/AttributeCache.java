@@ -0,0 +1,54 @@
+package dev.themeinerlp.minecraftotel.api.metrics;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of single-attribute {@link Attributes} instances keyed by attribute value.
+ *
+ * <p>Intended for low-cardinality values such as world or server names, so hot paths reuse
+ * the same attribute set instead of building a new one per event.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public final class AttributeCache {
+    private final AttributeKey<String> key;
+    private final Map<String, Attributes> attributes;
+
+    /**
+     * Creates a cache for the given attribute key.
+     *
+     * @param key attribute key
+     */
+    public AttributeCache(AttributeKey<String> key) {
+        this.key = key;
+        this.attributes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cached attributes for a value.
+     *
+     * @param value attribute value
+     * @return attributes containing only the cached key
+     */
+    public Attributes get(String value) {
+        if (value == null) {
+            return Attributes.empty();
+        }
+        Attributes cached = attributes.get(value);
+        if (cached == null) {
+            cached = attributes.computeIfAbsent(value, ignored -> Attributes.of(key, value));
+        }
+        return cached;
+    }
+
+    /**
+     * Removes all cached attributes.
+     */
+    public void clear() {
+        attributes.clear();
+    }
+}
@@ -1,21 +1,32 @@
 package dev.themeinerlp.minecraftotel.api.metrics;
 
 import io.opentelemetry.api.common.AttributeKey;
+import java.util.List;
 
 /**
  * Standard metric names, units, and attribute keys used by MinecraftOTEL.
  *
  * @since 1.1.0
- * @version 1.1.0
+ * @version 1.6.0
  */
 public final class StandardMetrics {
+    /**
+     * Prefix shared by all metric names recorded by MinecraftOTEL itself.
+     *
+     * @since 1.6.0
+     */
+    public static final String NAMESPACE = "minecraft.";
+
     public static final String UNIT_COUNT = "1";
     public static final String UNIT_MILLIS = "ms";
+    public static final String UNIT_BYTES = "By";
 
     public static final String PLAYERS_ONLINE = "minecraft.players.online";
     public static final String ENTITIES_LOADED = "minecraft.entities.loaded";
     public static final String ENTITIES_LOADED_BY_TYPE = "minecraft.entities.loaded_by_type";
     public static final String ENTITIES_LOADED_BY_TYPE_CHUNK = "minecraft.entities.loaded_by_type_chunk";
+    public static final String ENTITIES_LOADED_BY_TYPE_CHUNK_DROPPED =
+            "minecraft.entities.loaded_by_type_chunk.dropped_series";
     public static final String ENTITIES_PER_CHUNK = "minecraft.entities.per_chunk";
     public static final String CHUNKS_LOADED = "minecraft.chunks.loaded";
     public static final String CHUNKS_LOADED_PER_PLAYER = "minecraft.chunks.loaded_per_player";
@@ -25,11 +36,38 @@ public final class StandardMetrics {
     public static final String CHUNKS_UNLOAD_TOTAL = "minecraft.chunks.unload_total";
     public static final String CHUNKS_GENERATED_TOTAL = "minecraft.chunks.generated_total";
     public static final String TICK_DURATION = "minecraft.tick.duration";
+    public static final String TICK_PHASE_DURATION = "minecraft.tick.phase.duration";
+    public static final String EVENT_HANDLER_DURATION = "minecraft.event.handler.duration";
+    public static final String SCHEDULER_TASKS_PENDING = "minecraft.scheduler.tasks.pending";
+    public static final String SCHEDULER_WORKERS_ACTIVE = "minecraft.scheduler.workers.active";
     public static final String SERVER_TPS = "minecraft.server.tps";
     public static final String SERVER_MSPT_AVG = "minecraft.server.mspt.avg";
     public static final String SERVER_MSPT_P95 = "minecraft.server.mspt.p95";
+    public static final String SERVER_MSPT_P50 = "minecraft.server.mspt.p50";
+    public static final String SERVER_MSPT_P90 = "minecraft.server.mspt.p90";
+    public static final String SERVER_MSPT_P99 = "minecraft.server.mspt.p99";
+    public static final String SERVER_MSPT_P999 = "minecraft.server.mspt.p999";
+    public static final String SERVER_MSPT_MAX = "minecraft.server.mspt.max";
     public static final String PROXY_PLAYERS_ONLINE = "minecraft.proxy.players.online";
     public static final String PROXY_SERVERS_REGISTERED = "minecraft.proxy.servers.registered";
+    public static final String PROXY_LOGIN_DURATION = "minecraft.proxy.login.duration";
+    public static final String PROXY_BACKEND_CONNECT_DURATION = "minecraft.proxy.backend.connect.duration";
+    public static final String PROXY_PLAYER_PING = "minecraft.proxy.player.ping";
+    public static final String PROXY_BACKEND_BYTES_TOTAL = "minecraft.proxy.backend.bytes_total";
+    public static final String PROXY_BACKEND_PACKETS_TOTAL = "minecraft.proxy.backend.packets_total";
+    public static final String PROXY_BACKEND_REACHABLE = "minecraft.proxy.backend.reachable";
+    public static final String PROXY_BACKEND_PING_LATENCY = "minecraft.proxy.backend.ping.latency";
+    public static final String PROXY_BACKEND_PING_DURATION = "minecraft.proxy.backend.ping.duration";
+    public static final String FLEET_SERVERS_REPORTING = "minecraft.fleet.servers.reporting";
+    public static final String FLEET_PLAYERS_ONLINE = "minecraft.fleet.players.online";
+    public static final String FLEET_ENTITIES_LOADED = "minecraft.fleet.entities.loaded";
+    public static final String FLEET_CHUNKS_LOADED = "minecraft.fleet.chunks.loaded";
+    public static final String FLEET_TPS_MIN = "minecraft.fleet.tps.min";
+    public static final String FLEET_TPS = "minecraft.fleet.tps";
+    public static final String FLEET_MSPT_AVG_MAX = "minecraft.fleet.mspt.avg.max";
+    public static final String FLEET_MSPT_P95_MAX = "minecraft.fleet.mspt.p95.max";
+    public static final String TELEMETRY_STAGE_DURATION = "minecraft.telemetry.stage.duration";
+    public static final String TELEMETRY_SERIES_LIVE = "minecraft.telemetry.series.live";
 
     public static final AttributeKey<String> WORLD_KEY = AttributeKey.stringKey("world");
     public static final AttributeKey<String> WINDOW_KEY = AttributeKey.stringKey("window");
@@ -37,9 +75,48 @@ public final class StandardMetrics {
     public static final AttributeKey<String> ENTITY_TYPE_KEY = AttributeKey.stringKey("entity_type");
     public static final AttributeKey<Long> CHUNK_X_KEY = AttributeKey.longKey("chunk_x");
     public static final AttributeKey<Long> CHUNK_Z_KEY = AttributeKey.longKey("chunk_z");
+    public static final AttributeKey<String> CHUNK_KEY = AttributeKey.stringKey("chunk");
+    public static final AttributeKey<String> STAGE_KEY = AttributeKey.stringKey("stage");
+    public static final AttributeKey<String> METRIC_KEY = AttributeKey.stringKey("metric");
+    public static final AttributeKey<String> PHASE_KEY = AttributeKey.stringKey("phase");
+    public static final AttributeKey<String> PLUGIN_KEY = AttributeKey.stringKey("plugin");
+    public static final AttributeKey<String> EVENT_KEY = AttributeKey.stringKey("event");
+    public static final AttributeKey<String> MODE_KEY = AttributeKey.stringKey("mode");
+    public static final AttributeKey<String> DIRECTION_KEY = AttributeKey.stringKey("direction");
 
+    public static final String CHUNK_OTHER = "other";
     public static final String[] TPS_WINDOWS = {"1m", "5m", "15m"};
 
+    /** Bucket boundaries in milliseconds for tick durations, dense around the 50 ms tick budget. */
+    public static final List<Double> TICK_DURATION_BUCKETS = List.of(
+            1d, 2d, 5d, 10d, 15d, 20d, 25d, 30d, 40d, 50d, 75d, 100d, 250d, 1000d
+    );
+
+    /** Bucket boundaries in milliseconds for tick phases, which are fractions of a tick. */
+    public static final List<Double> TICK_PHASE_BUCKETS = List.of(
+            0.05d, 0.1d, 0.25d, 0.5d, 1d, 2d, 5d, 10d, 20d, 50d, 100d
+    );
+
+    /** Bucket boundaries in milliseconds for single event handler calls, most of which stay well below 1 ms. */
+    public static final List<Double> EVENT_HANDLER_BUCKETS = List.of(
+            0.005d, 0.01d, 0.025d, 0.05d, 0.1d, 0.25d, 0.5d, 1d, 2.5d, 5d, 10d, 50d
+    );
+
+    /** Bucket boundaries in milliseconds for proxy logins and backend connects, which include network round trips. */
+    public static final List<Double> PROXY_CONNECT_BUCKETS = List.of(
+            5d, 10d, 25d, 50d, 100d, 250d, 500d, 1000d, 2500d, 5000d, 10000d, 30000d
+    );
+
+    /** Bucket boundaries in milliseconds for player ping. */
+    public static final List<Double> PLAYER_PING_BUCKETS = List.of(
+            5d, 10d, 20d, 30d, 50d, 75d, 100d, 150d, 200d, 300d, 500d, 1000d
+    );
+
+    /** Bucket boundaries in TPS for the fleet TPS distribution, dense just below the 20 TPS target. */
+    public static final List<Double> FLEET_TPS_BUCKETS = List.of(
+            5d, 10d, 15d, 18d, 19d, 19.5d, 19.9d, 20d
+    );
+
     private StandardMetrics() {
     }
 }
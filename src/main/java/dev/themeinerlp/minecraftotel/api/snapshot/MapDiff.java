@@ -0,0 +1,118 @@
+package dev.themeinerlp.minecraftotel.api.snapshot;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Difference between two versions of a keyed snapshot map.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public final class MapDiff<K, V> {
+    private static final MapDiff<?, ?> EMPTY = new MapDiff<>(Map.of(), Set.of());
+
+    private final Map<K, V> changed;
+    private final Set<K> removed;
+
+    private MapDiff(Map<K, V> changed, Set<K> removed) {
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    /**
+     * Returns a diff without changes.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return empty diff
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> MapDiff<K, V> empty() {
+        return (MapDiff<K, V>) EMPTY;
+    }
+
+    /**
+     * Computes the changes from a previous map to the current one. Null maps are treated as empty.
+     * Two {@link PersistentMap}s are compared structurally, skipping the subtrees they share.
+     *
+     * @param previous previous map or null
+     * @param current current map or null
+     * @param <K> key type
+     * @param <V> value type
+     * @return diff with added or updated entries and removed keys
+     */
+    public static <K, V> MapDiff<K, V> of(Map<K, V> previous, Map<K, V> current) {
+        if (previous == current) {
+            return empty();
+        }
+        if (previous instanceof PersistentMap<K, V> before && current instanceof PersistentMap<K, V> after) {
+            Map<K, V> changed = new HashMap<>();
+            Set<K> removed = new HashSet<>();
+            after.diff(before, changed::put, removed::add);
+            return changed.isEmpty() && removed.isEmpty() ? empty() : new MapDiff<>(changed, removed);
+        }
+        Map<K, V> before = previous == null ? Map.of() : previous;
+        Map<K, V> after = current == null ? Map.of() : current;
+        Map<K, V> changed = new HashMap<>();
+        int added = 0;
+        for (Map.Entry<K, V> entry : after.entrySet()) {
+            V old = before.get(entry.getKey());
+            if (old == null) {
+                added++;
+            }
+            if (!Objects.equals(old, entry.getValue())) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Set<K> removed = null;
+        if (before.size() > after.size() - added) {
+            // Some previous keys are missing from the current map.
+            removed = new HashSet<>();
+            for (K key : before.keySet()) {
+                if (!after.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+        }
+        if (changed.isEmpty() && (removed == null || removed.isEmpty())) {
+            return empty();
+        }
+        return new MapDiff<>(
+                changed.isEmpty() ? Map.of() : changed,
+                removed == null || removed.isEmpty() ? Set.of() : removed
+        );
+    }
+
+    /**
+     * Returns entries that were added or whose value changed.
+     *
+     * @return changed entries
+     */
+    public Map<K, V> changed() {
+        return changed;
+    }
+
+    /**
+     * Returns keys that are no longer present.
+     *
+     * @return removed keys
+     */
+    public Set<K> removed() {
+        return removed;
+    }
+
+    /**
+     * Returns whether nothing changed.
+     *
+     * @return true when there are no changed entries and no removed keys
+     */
+    public boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,558 @@
+package dev.themeinerlp.minecraftotel.api.snapshot;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Immutable hash map with structural sharing (hash array mapped trie).
+ *
+ * <p>{@link #with(Object, Object)} and {@link #without(Object)} return a new map that shares all
+ * untouched subtrees with the original, so publishing a new snapshot version costs
+ * {@code O(changed keys)} instead of a full copy. Comparing two versions with
+ * {@link #diff(PersistentMap, BiConsumer, Consumer)} skips shared subtrees. Keys and values must
+ * not be null.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent map with the entries of the given map.
+     *
+     * @param map source map
+     * @param <K> key type
+     * @param <V> value type
+     * @return the map itself when it already is persistent, otherwise a new map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap<?, ?> persistent) {
+            return (PersistentMap<K, V>) persistent;
+        }
+        PersistentMap<K, V> result = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map with the given entry added or replaced.
+     *
+     * @param key key
+     * @param value value
+     * @return new map, or this map when the key already maps to an equal value
+     */
+    public PersistentMap<K, V> with(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        Leaf<K, V> leaf = new Leaf<>(hash(key), key, value);
+        int[] added = new int[1];
+        BitmapNode next = root == null
+                ? new BitmapNode(bit(leaf.hash, 0), new Object[] {leaf})
+                : put(root, leaf, 0, added);
+        if (next == root) {
+            return this;
+        }
+        return new PersistentMap<>(next, root == null ? 1 : size + added[0]);
+    }
+
+    /**
+     * Returns a map without the given key.
+     *
+     * @param key key
+     * @return new map, or this map when the key is absent
+     */
+    public PersistentMap<K, V> without(Object key) {
+        if (key == null || root == null) {
+            return this;
+        }
+        Object next = remove(root, key, hash(key), 0);
+        if (next == root) {
+            return this;
+        }
+        if (size == 1) {
+            return empty();
+        }
+        BitmapNode nextRoot = next instanceof BitmapNode node
+                ? node
+                : new BitmapNode(bit(slotHash(next), 0), new Object[] {next});
+        return new PersistentMap<>(nextRoot, size - 1);
+    }
+
+    /**
+     * Reports the changes from a previous version of this map to this one. Subtrees shared by
+     * both versions are skipped.
+     *
+     * @param previous previous version
+     * @param changed receives entries that were added or whose value changed
+     * @param removed receives keys that are no longer present
+     */
+    public void diff(PersistentMap<K, V> previous, BiConsumer<K, V> changed, Consumer<K> removed) {
+        diffSlots(previous.root, root, 0, changed, removed);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key == null || root == null) {
+            return null;
+        }
+        Leaf<K, V> leaf = find(root, key, hash(key), 0);
+        return leaf == null ? null : leaf.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        forEachLeaf(root, leaf -> action.accept(leaf.key, leaf.value));
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new LeafIterator(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private BitmapNode put(BitmapNode node, Leaf<K, V> leaf, int shift, int[] added) {
+        int bit = bit(leaf.hash, shift);
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            added[0] = 1;
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = leaf;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            return new BitmapNode(node.bitmap | bit, slots);
+        }
+        Object slot = node.slots[index];
+        Object replaced;
+        if (slot instanceof Leaf<?, ?>) {
+            Leaf<K, V> existing = leaf(slot);
+            if (existing.hash == leaf.hash && existing.key.equals(leaf.key)) {
+                if (existing.value.equals(leaf.value)) {
+                    return node;
+                }
+                replaced = leaf;
+            } else {
+                added[0] = 1;
+                replaced = merge(existing, existing.hash, leaf, leaf.hash, shift + BITS);
+            }
+        } else if (slot instanceof BitmapNode child) {
+            replaced = put(child, leaf, shift + BITS, added);
+            if (replaced == child) {
+                return node;
+            }
+        } else {
+            CollisionNode collision = (CollisionNode) slot;
+            if (collision.hash == leaf.hash) {
+                replaced = putCollision(collision, leaf, added);
+                if (replaced == collision) {
+                    return node;
+                }
+            } else {
+                added[0] = 1;
+                replaced = merge(collision, collision.hash, leaf, leaf.hash, shift + BITS);
+            }
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replaced;
+        return new BitmapNode(node.bitmap, slots);
+    }
+
+    private Object putCollision(CollisionNode collision, Leaf<K, V> leaf, int[] added) {
+        Object[] leaves = collision.leaves;
+        for (int i = 0; i < leaves.length; i++) {
+            Leaf<K, V> existing = leaf(leaves[i]);
+            if (existing.key.equals(leaf.key)) {
+                if (existing.value.equals(leaf.value)) {
+                    return collision;
+                }
+                Object[] replaced = leaves.clone();
+                replaced[i] = leaf;
+                return new CollisionNode(collision.hash, replaced);
+            }
+        }
+        added[0] = 1;
+        Object[] extended = new Object[leaves.length + 1];
+        System.arraycopy(leaves, 0, extended, 0, leaves.length);
+        extended[leaves.length] = leaf;
+        return new CollisionNode(collision.hash, extended);
+    }
+
+    private static Object merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (firstHash == secondHash) {
+            return new CollisionNode(firstHash, new Object[] {first, second});
+        }
+        int firstBit = bit(firstHash, shift);
+        int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new BitmapNode(firstBit, new Object[] {merge(first, firstHash, second, secondHash, shift + BITS)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new BitmapNode(firstBit | secondBit, slots);
+    }
+
+    /**
+     * Removes a key below a node. Returns the node itself when the key is absent, null when the
+     * node became empty, or the only remaining leaf or collision node so parents can inline it.
+     */
+    private Object remove(BitmapNode node, Object key, int hash, int shift) {
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        Object slot = node.slots[index];
+        Object replaced;
+        if (slot instanceof Leaf<?, ?>) {
+            Leaf<K, V> existing = leaf(slot);
+            if (existing.hash != hash || !existing.key.equals(key)) {
+                return node;
+            }
+            replaced = null;
+        } else if (slot instanceof BitmapNode child) {
+            replaced = remove(child, key, hash, shift + BITS);
+            if (replaced == child) {
+                return node;
+            }
+        } else {
+            CollisionNode collision = (CollisionNode) slot;
+            replaced = removeCollision(collision, key, hash);
+            if (replaced == collision) {
+                return node;
+            }
+        }
+
+        if (replaced == null) {
+            if (node.slots.length == 1) {
+                return null;
+            }
+            Object[] slots = new Object[node.slots.length - 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+            if (slots.length == 1 && !(slots[0] instanceof BitmapNode)) {
+                return slots[0];
+            }
+            return new BitmapNode(node.bitmap & ~bit, slots);
+        }
+        if (node.slots.length == 1 && !(replaced instanceof BitmapNode)) {
+            return replaced;
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replaced;
+        return new BitmapNode(node.bitmap, slots);
+    }
+
+    private Object removeCollision(CollisionNode collision, Object key, int hash) {
+        if (collision.hash != hash) {
+            return collision;
+        }
+        Object[] leaves = collision.leaves;
+        for (int i = 0; i < leaves.length; i++) {
+            if (leaf(leaves[i]).key.equals(key)) {
+                if (leaves.length == 2) {
+                    return leaves[1 - i];
+                }
+                Object[] reduced = new Object[leaves.length - 1];
+                System.arraycopy(leaves, 0, reduced, 0, i);
+                System.arraycopy(leaves, i + 1, reduced, i, reduced.length - i);
+                return new CollisionNode(hash, reduced);
+            }
+        }
+        return collision;
+    }
+
+    private Leaf<K, V> find(Object slot, Object key, int hash, int shift) {
+        while (slot != null) {
+            if (slot instanceof BitmapNode node) {
+                int bit = bit(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+                slot = node.slots[Integer.bitCount(node.bitmap & (bit - 1))];
+                shift += BITS;
+            } else if (slot instanceof CollisionNode collision) {
+                if (collision.hash != hash) {
+                    return null;
+                }
+                for (Object candidate : collision.leaves) {
+                    if (leaf(candidate).key.equals(key)) {
+                        return leaf(candidate);
+                    }
+                }
+                return null;
+            } else {
+                Leaf<K, V> leaf = leaf(slot);
+                return leaf.hash == hash && leaf.key.equals(key) ? leaf : null;
+            }
+        }
+        return null;
+    }
+
+    private void diffSlots(Object before, Object after, int shift, BiConsumer<K, V> changed, Consumer<K> removed) {
+        if (before == after) {
+            return;
+        }
+        if (before == null) {
+            forEachLeaf(after, leaf -> changed.accept(leaf.key, leaf.value));
+            return;
+        }
+        if (after == null) {
+            forEachLeaf(before, leaf -> removed.accept(leaf.key));
+            return;
+        }
+        if (before instanceof BitmapNode beforeNode && after instanceof BitmapNode afterNode) {
+            int remaining = beforeNode.bitmap | afterNode.bitmap;
+            while (remaining != 0) {
+                int bit = Integer.lowestOneBit(remaining);
+                remaining &= ~bit;
+                Object beforeSlot = (beforeNode.bitmap & bit) == 0
+                        ? null
+                        : beforeNode.slots[Integer.bitCount(beforeNode.bitmap & (bit - 1))];
+                Object afterSlot = (afterNode.bitmap & bit) == 0
+                        ? null
+                        : afterNode.slots[Integer.bitCount(afterNode.bitmap & (bit - 1))];
+                diffSlots(beforeSlot, afterSlot, shift + BITS, changed, removed);
+            }
+            return;
+        }
+        // Differently shaped subtrees: compare by lookup. Only happens for small subtrees.
+        forEachLeaf(after, leaf -> {
+            Leaf<K, V> old = find(before, leaf.key, leaf.hash, shift);
+            if (old == null || !old.value.equals(leaf.value)) {
+                changed.accept(leaf.key, leaf.value);
+            }
+        });
+        forEachLeaf(before, leaf -> {
+            if (find(after, leaf.key, leaf.hash, shift) == null) {
+                removed.accept(leaf.key);
+            }
+        });
+    }
+
+    private void forEachLeaf(Object slot, Consumer<Leaf<K, V>> action) {
+        if (slot == null) {
+            return;
+        }
+        if (slot instanceof BitmapNode node) {
+            for (Object child : node.slots) {
+                forEachLeaf(child, action);
+            }
+        } else if (slot instanceof CollisionNode collision) {
+            for (Object leaf : collision.leaves) {
+                action.accept(leaf(leaf));
+            }
+        } else {
+            action.accept(leaf(slot));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Leaf<K, V> leaf(Object slot) {
+        return (Leaf<K, V>) slot;
+    }
+
+    private int slotHash(Object slot) {
+        return slot instanceof CollisionNode collision ? collision.hash : leaf(slot).hash;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static final class BitmapNode {
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private static final class CollisionNode {
+        private final int hash;
+        private final Object[] leaves;
+
+        private CollisionNode(int hash, Object[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+    }
+
+    private static final class Leaf<K, V> implements Map.Entry<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        private Leaf(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Map.Entry<?, ?> entry
+                    && key.equals(entry.getKey())
+                    && value.equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private final class LeafIterator implements Iterator<Map.Entry<K, V>> {
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Object[] collision;
+        private int collisionPosition;
+        private Leaf<K, V> next;
+
+        private LeafIterator(BitmapNode root) {
+            if (root != null) {
+                push(root.slots);
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            Leaf<K, V> current = next;
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return current;
+        }
+
+        private void push(Object[] slots) {
+            depth++;
+            stack[depth] = slots;
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            if (collision != null) {
+                if (collisionPosition < collision.length) {
+                    next = leaf(collision[collisionPosition++]);
+                    return;
+                }
+                collision = null;
+            }
+            while (depth >= 0) {
+                Object[] slots = stack[depth];
+                if (positions[depth] >= slots.length) {
+                    stack[depth] = null;
+                    depth--;
+                    continue;
+                }
+                Object slot = slots[positions[depth]++];
+                if (slot instanceof BitmapNode node) {
+                    push(node.slots);
+                } else if (slot instanceof CollisionNode node) {
+                    collision = node.leaves;
+                    collisionPosition = 1;
+                    next = leaf(node.leaves[0]);
+                    return;
+                } else {
+                    next = leaf(slot);
+                    return;
+                }
+            }
+            next = null;
+        }
+    }
+}
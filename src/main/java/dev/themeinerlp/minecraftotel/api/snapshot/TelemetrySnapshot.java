@@ -1,10 +1,21 @@
 package dev.themeinerlp.minecraftotel.api.snapshot;
 
+import java.util.Optional;
+
 /**
  * Marker interface for platform-specific telemetry snapshots.
  *
  * @since 1.1.0
- * @version 1.1.0
+ * @version 1.6.0
  */
 public interface TelemetrySnapshot {
+    /**
+     * Returns the changes from a previous snapshot to this one.
+     *
+     * @param previous previous snapshot
+     * @return diff, or empty when the snapshots cannot be compared
+     */
+    default Optional<? extends TelemetrySnapshotDiff> diff(TelemetrySnapshot previous) {
+        return Optional.empty();
+    }
 }
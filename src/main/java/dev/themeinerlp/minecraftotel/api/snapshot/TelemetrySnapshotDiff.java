@@ -0,0 +1,10 @@
+package dev.themeinerlp.minecraftotel.api.snapshot;
+
+/**
+ * Marker interface for platform-specific differences between two telemetry snapshots.
+ *
+ * @since 1.6.0
+ * @version 1.6.0
+ */
+public interface TelemetrySnapshotDiff {
+}
@@ -1,7 +1,9 @@
 package dev.themeinerlp.minecraftotel.paper;
 
+import dev.themeinerlp.minecraftotel.api.collector.BoundDoubleHistogram;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
 import dev.themeinerlp.minecraftotel.api.collector.MeterTelemetryCollector;
-import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
 import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
 import dev.themeinerlp.minecraftotel.api.service.TelemetryListener;
 import dev.themeinerlp.minecraftotel.api.service.TelemetryService;
@@ -9,32 +11,67 @@ import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotSampler;
 import dev.themeinerlp.minecraftotel.paper.metrics.PaperStandardSnapshotTelemetrySampler;
 import dev.themeinerlp.minecraftotel.paper.config.PluginConfig;
+import dev.themeinerlp.minecraftotel.paper.fleet.FleetSummaryPublisher;
 import dev.themeinerlp.minecraftotel.paper.listeners.ChunkCounterListener;
 import dev.themeinerlp.minecraftotel.paper.listeners.EntityCounterListener;
 import dev.themeinerlp.minecraftotel.paper.sampler.PaperSnapshotSampler;
+import dev.themeinerlp.minecraftotel.paper.scan.BaselineScanner;
+import dev.themeinerlp.minecraftotel.paper.scan.RegionizedBaselineScanner;
+import dev.themeinerlp.minecraftotel.paper.scan.TimeSlicedBaselineScanner;
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshotBuilder;
 import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import dev.themeinerlp.minecraftotel.paper.tick.LagSpikeRecorder;
+import dev.themeinerlp.minecraftotel.paper.timing.EventHandlerTimings;
+import dev.themeinerlp.minecraftotel.paper.timing.SchedulerTaskSampler;
 import dev.themeinerlp.minecraftotel.paper.tick.TickDurationRecorder;
+import dev.themeinerlp.minecraftotel.paper.tick.TickPhaseRecorder;
+import dev.themeinerlp.minecraftotel.paper.tick.TickTimeWindow;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import org.bukkit.Bukkit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
  * Orchestrates sampling, listeners, and metrics for the Paper plugin.
+ *
+ * <p>Each sample runs in two stages: a capture stage on the server thread that only reads raw
+ * values, and a publish stage on a dedicated telemetry thread that builds the snapshot, notifies
+ * listeners and runs the samplers.
  */
 public final class PaperTelemetryService implements TelemetryService {
+    private static final Attributes CAPTURE_STAGE = Attributes.of(StandardMetrics.STAGE_KEY, "capture");
+    private static final Attributes PUBLISH_STAGE = Attributes.of(StandardMetrics.STAGE_KEY, "publish");
+    private static final long BUDGET_WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int DIFF_KEYFRAME_WITHOUT_EVICTION = 60;
+
     private final JavaPlugin plugin;
     private final PluginConfig config;
     private final TelemetryState state;
-    private final TelemetryCollector collector;
+    private final MeterTelemetryCollector collector;
+    private final TelemetryScheduler scheduler;
     private final List<TelemetrySnapshotSampler> snapshotSamplers;
     private final List<TelemetrySampler> samplers;
     private final List<TelemetryListener> listeners;
+    private final AtomicBoolean publishInFlight;
+    private final BoundDoubleHistogram captureStageDuration;
+    private final BoundDoubleHistogram publishStageDuration;
+    private ExecutorService publishExecutor;
+    private long lastBudgetWarningNanos;
     private TickDurationRecorder tickDurationRecorder;
+    private TickPhaseRecorder tickPhaseRecorder;
+    private LagSpikeRecorder lagSpikeRecorder;
+    private EventHandlerTimings eventHandlerTimings;
+    private FleetSummaryPublisher fleetSummaryPublisher;
     private PaperSnapshotSampler snapshotSampler;
+    private BaselineScanner baselineScanner;
     private volatile boolean running;
 
     /**
@@ -52,10 +89,21 @@ public final class PaperTelemetryService implements TelemetryService {
                 .setInstrumentationVersion(plugin.getPluginMeta().getVersion())
                 .build();
         this.collector = new MeterTelemetryCollector(meter);
+        this.scheduler = TelemetryScheduler.create(plugin);
         this.snapshotSamplers = new CopyOnWriteArrayList<>();
         this.samplers = new CopyOnWriteArrayList<>();
-        this.samplers.add(new PaperStandardSnapshotTelemetrySampler());
+        this.samplers.add(new PaperStandardSnapshotTelemetrySampler(
+                config.entitiesByChunkTopK,
+                keyframeEvery(config)
+        ));
         this.listeners = new CopyOnWriteArrayList<>();
+        this.publishInFlight = new AtomicBoolean();
+        DoubleHistogramHandle stageDuration = collector.doubleHistogram(
+                StandardMetrics.TELEMETRY_STAGE_DURATION,
+                StandardMetrics.UNIT_MILLIS
+        );
+        this.captureStageDuration = stageDuration.bind(CAPTURE_STAGE);
+        this.publishStageDuration = stageDuration.bind(PUBLISH_STAGE);
     }
 
     /**
@@ -68,7 +116,29 @@ public final class PaperTelemetryService implements TelemetryService {
         }
         running = true;
         state.setEntityTypeChunkMode(config.entitiesByChunkMode);
-        state.baselineInit(plugin.getServer());
+        if (scheduler.isRegionized()) {
+            RegionizedBaselineScanner regionScanner = new RegionizedBaselineScanner(
+                    plugin.getServer(),
+                    plugin.getSLF4JLogger(),
+                    scheduler,
+                    state
+            );
+            plugin.getServer().getPluginManager().registerEvents(regionScanner, plugin);
+            regionScanner.seedLoadedChunks();
+            baselineScanner = regionScanner;
+        } else {
+            state.baselineInit(plugin.getServer());
+            if (config.baselineScanBudgetNanos > 0L) {
+                TimeSlicedBaselineScanner slicedScanner = new TimeSlicedBaselineScanner(
+                        plugin.getServer(),
+                        scheduler,
+                        state,
+                        config.baselineScanBudgetNanos
+                );
+                slicedScanner.start();
+                baselineScanner = slicedScanner;
+            }
+        }
 
         if (config.enableChunks) {
             plugin.getServer().getPluginManager().registerEvents(
@@ -87,17 +157,69 @@ public final class PaperTelemetryService implements TelemetryService {
             state.setEntityEventsAvailable(false);
         }
 
-        if (config.enableTick) {
-            tickDurationRecorder = new TickDurationRecorder(plugin, collector);
+        TickTimeWindow tickTimeWindow = config.enableTpsMspt ? new TickTimeWindow() : null;
+        if (config.enableTick || tickTimeWindow != null) {
+            tickDurationRecorder = new TickDurationRecorder(
+                    plugin,
+                    config.enableTick ? collector : null,
+                    tickTimeWindow
+            );
             tickDurationRecorder.start();
         }
 
-        snapshotSampler = new PaperSnapshotSampler(plugin.getServer(), config, state);
-        snapshotSamplers.add(snapshotSampler);
+        if (config.enableTickPhases && !scheduler.isRegionized()) {
+            tickPhaseRecorder = new TickPhaseRecorder(plugin, scheduler, collector, config.tickPhasesSampleEvery);
+            tickPhaseRecorder.start();
+        }
+
+        if (config.enableLagSpikes && !scheduler.isRegionized()) {
+            lagSpikeRecorder = new LagSpikeRecorder(
+                    plugin,
+                    this::getSnapshot,
+                    config.lagSpikeThresholdMillis,
+                    config.lagSpikeTicks,
+                    config.lagSpikeCooldownSeconds,
+                    config.lagSpikeMaxFiles
+            );
+            lagSpikeRecorder.start();
+        }
+
+        if (config.enableEventTimings) {
+            eventHandlerTimings = new EventHandlerTimings(plugin, scheduler, collector, config.eventTimingsSampleEvery);
+            eventHandlerTimings.start();
+        }
+
+        if (config.enableSchedulerTasks && !scheduler.isRegionized()) {
+            new SchedulerTaskSampler(plugin.getServer(), scheduler, collector, config.intervalSeconds).start();
+        }
+
+        if (config.enableFleet) {
+            fleetSummaryPublisher = new FleetSummaryPublisher(
+                    plugin,
+                    scheduler,
+                    Math.max(1, config.fleetIntervalSeconds / config.intervalSeconds)
+            );
+            fleetSummaryPublisher.start();
+            listeners.add(fleetSummaryPublisher);
+        }
+
+        snapshotSampler = new PaperSnapshotSampler(
+                plugin.getServer(),
+                config,
+                state,
+                baselineScanner,
+                tickTimeWindow
+        );
+        publishExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinecraftOTEL-Telemetry");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         startSamplingTask();
 
         plugin.getSLF4JLogger().info("Sampler: {}", snapshotSampler.samplerName());
+        plugin.getSLF4JLogger().info("Regionized (Folia) scheduling: {}", scheduler.isRegionized());
         plugin.getSLF4JLogger().info("Paper entity events enabled: {}", config.enableEntities);
         plugin.getSLF4JLogger().info("Paper tick events enabled: {}", config.enableTick);
     }
@@ -165,36 +287,129 @@ public final class PaperTelemetryService implements TelemetryService {
         if (tickDurationRecorder != null) {
             tickDurationRecorder.stop();
         }
-        Bukkit.getScheduler().cancelTasks(plugin);
+        if (tickPhaseRecorder != null) {
+            tickPhaseRecorder.stop();
+            tickPhaseRecorder = null;
+        }
+        if (lagSpikeRecorder != null) {
+            lagSpikeRecorder.stop();
+            lagSpikeRecorder = null;
+        }
+        if (eventHandlerTimings != null) {
+            eventHandlerTimings.stop();
+            eventHandlerTimings = null;
+        }
+        if (fleetSummaryPublisher != null) {
+            listeners.remove(fleetSummaryPublisher);
+            fleetSummaryPublisher.stop();
+            fleetSummaryPublisher = null;
+        }
+        if (baselineScanner != null) {
+            baselineScanner.stop();
+            baselineScanner = null;
+        }
+        scheduler.cancelAll();
+        if (publishExecutor != null) {
+            publishExecutor.shutdown();
+            publishExecutor = null;
+        }
+    }
+
+    // Keyframes must come before unchanged series become stale, so they are placed one cycle ahead of eviction.
+    private static int keyframeEvery(PluginConfig config) {
+        if (!config.diffRecording) {
+            return 1;
+        }
+        if (config.staleSeriesCycles == 0) {
+            return DIFF_KEYFRAME_WITHOUT_EVICTION;
+        }
+        return Math.max(1, config.staleSeriesCycles - 1);
     }
 
     private void startSamplingTask() {
         long intervalTicks = config.intervalSeconds * 20L;
-        Bukkit.getScheduler().runTaskTimer(
-                plugin,
-                () -> {
-                    PaperTelemetrySnapshotBuilder builder = new PaperTelemetrySnapshotBuilder();
-                    for (TelemetrySnapshotSampler sampler : snapshotSamplers) {
-                        sampler.sample(builder);
-                    }
-                    updateSnapshot(builder.build());
-                },
-                0L,
-                intervalTicks
+        scheduler.runRepeating(this::captureAndPublish, 0L, intervalTicks);
+    }
+
+    private void captureAndPublish() {
+        ExecutorService executor = publishExecutor;
+        if (executor == null || !publishInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        long captureStarted = System.nanoTime();
+        PaperSnapshotSampler.Capture capture;
+        PaperTelemetrySnapshotBuilder builder = new PaperTelemetrySnapshotBuilder();
+        try {
+            capture = snapshotSampler.capture();
+            for (TelemetrySnapshotSampler sampler : snapshotSamplers) {
+                sampler.sample(builder);
+            }
+        } catch (RuntimeException exception) {
+            publishInFlight.set(false);
+            throw exception;
+        }
+        long captureNanos = System.nanoTime() - captureStarted;
+        checkCaptureBudget(captureNanos);
+
+        try {
+            executor.execute(() -> publish(capture, builder, captureNanos));
+        } catch (RejectedExecutionException exception) {
+            publishInFlight.set(false);
+        }
+    }
+
+    private void publish(PaperSnapshotSampler.Capture capture, PaperTelemetrySnapshotBuilder builder, long captureNanos) {
+        long publishStarted = System.nanoTime();
+        try {
+            updateSnapshot(snapshotSampler.complete(capture, builder).build());
+        } catch (RuntimeException exception) {
+            plugin.getSLF4JLogger().warn("Failed to publish telemetry sample", exception);
+        } finally {
+            try {
+                captureStageDuration.record(captureNanos / 1_000_000d);
+                publishStageDuration.record((System.nanoTime() - publishStarted) / 1_000_000d);
+                collector.completeCycle(config.staleSeriesCycles);
+            } finally {
+                publishInFlight.set(false);
+            }
+        }
+    }
+
+    private void checkCaptureBudget(long captureNanos) {
+        if (captureNanos <= TimeUnit.MICROSECONDS.toNanos(config.captureBudgetMicros)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastBudgetWarningNanos != 0L && now - lastBudgetWarningNanos < BUDGET_WARNING_INTERVAL_NANOS) {
+            return;
+        }
+        lastBudgetWarningNanos = now;
+        plugin.getSLF4JLogger().warn(
+                "Telemetry capture took {}us on the server thread (budget {}us)",
+                TimeUnit.NANOSECONDS.toMicros(captureNanos),
+                config.captureBudgetMicros
         );
     }
 
     private void updateSnapshot(TelemetrySnapshot snapshot) {
         state.setSnapshot(snapshot);
         for (TelemetryListener listener : listeners) {
-            listener.onSample(snapshot);
+            try {
+                listener.onSample(snapshot);
+            } catch (RuntimeException exception) {
+                plugin.getSLF4JLogger().warn("Telemetry listener {} failed", listener.getClass().getName(), exception);
+            }
         }
         runSamplers(snapshot);
     }
 
     private void runSamplers(TelemetrySnapshot snapshot) {
         for (TelemetrySampler sampler : samplers) {
-            sampler.sample(snapshot, collector);
+            try {
+                sampler.sample(snapshot, collector);
+            } catch (RuntimeException exception) {
+                plugin.getSLF4JLogger().warn("Telemetry sampler {} failed", sampler.getClass().getName(), exception);
+            }
         }
     }
 }
@@ -9,10 +9,22 @@ import org.bukkit.plugin.java.JavaPlugin;
 public final class PluginConfig {
     /** Enables tick duration histogram sampling. */
     public final boolean enableTick;
+    /** Enables the sampled per-phase tick breakdown. */
+    public final boolean enableTickPhases;
+    /** Measures tick phases on one in this many ticks. */
+    public final int tickPhasesSampleEvery;
+    /** Enables sampled timing of other plugins' event handlers. */
+    public final boolean enableEventTimings;
+    /** Times one in this many event handler calls. */
+    public final int eventTimingsSampleEvery;
+    /** Enables pending task and async worker gauges per plugin. */
+    public final boolean enableSchedulerTasks;
     /** Enables entity gauges and add/remove counters. */
     public final boolean enableEntities;
     /** Mode for entity type per chunk tracking. */
     public final EntitiesByChunkMode entitiesByChunkMode;
+    /** Number of chunks kept for entity type per chunk metrics, 0 keeps all chunks. */
+    public final int entitiesByChunkTopK;
     /** Enables chunk gauges and load/unload counters. */
     public final boolean enableChunks;
     /** Enables TPS and MSPT sampling. */
@@ -23,25 +35,81 @@ public final class PluginConfig {
     public final int intervalSeconds;
     /** Baseline scan interval in seconds. */
     public final int baselineScanIntervalSeconds;
+    /** Per-tick budget for time-sliced baseline scans in nanoseconds, 0 scans in one tick. */
+    public final long baselineScanBudgetNanos;
+    /** Enables lag spike dumps. */
+    public final boolean enableLagSpikes;
+    /** Tick duration in milliseconds that triggers a lag spike dump. */
+    public final double lagSpikeThresholdMillis;
+    /** Number of ticks kept in the lag spike ring buffer. */
+    public final int lagSpikeTicks;
+    /** Minimum time between two lag spike dumps in seconds. */
+    public final int lagSpikeCooldownSeconds;
+    /** Number of lag spike dump files to keep. */
+    public final int lagSpikeMaxFiles;
+    /** Server-thread time budget for the capture stage in microseconds. */
+    public final int captureBudgetMicros;
+    /** Sampling cycles after which gauge series that were not recorded are dropped, 0 keeps all. */
+    public final int staleSeriesCycles;
+    /** Records unchanged keyed gauge series only on keyframes between which changes are diffed. */
+    public final boolean diffRecording;
+    /** Publishes fleet summaries to the proxy over plugin messaging. */
+    public final boolean enableFleet;
+    /** Seconds between two fleet summaries. */
+    public final int fleetIntervalSeconds;
 
     private PluginConfig(
             boolean enableTick,
+            boolean enableTickPhases,
+            int tickPhasesSampleEvery,
+            boolean enableEventTimings,
+            int eventTimingsSampleEvery,
+            boolean enableSchedulerTasks,
             boolean enableEntities,
             EntitiesByChunkMode entitiesByChunkMode,
+            int entitiesByChunkTopK,
             boolean enableChunks,
             boolean enableTpsMspt,
             boolean preferSpark,
             int intervalSeconds,
-            int baselineScanIntervalSeconds
+            int baselineScanIntervalSeconds,
+            long baselineScanBudgetNanos,
+            boolean enableLagSpikes,
+            double lagSpikeThresholdMillis,
+            int lagSpikeTicks,
+            int lagSpikeCooldownSeconds,
+            int lagSpikeMaxFiles,
+            int captureBudgetMicros,
+            int staleSeriesCycles,
+            boolean diffRecording,
+            boolean enableFleet,
+            int fleetIntervalSeconds
     ) {
         this.enableTick = enableTick;
+        this.enableTickPhases = enableTickPhases;
+        this.tickPhasesSampleEvery = tickPhasesSampleEvery;
+        this.enableEventTimings = enableEventTimings;
+        this.eventTimingsSampleEvery = eventTimingsSampleEvery;
+        this.enableSchedulerTasks = enableSchedulerTasks;
         this.enableEntities = enableEntities;
         this.entitiesByChunkMode = entitiesByChunkMode;
+        this.entitiesByChunkTopK = entitiesByChunkTopK;
         this.enableChunks = enableChunks;
         this.enableTpsMspt = enableTpsMspt;
         this.preferSpark = preferSpark;
         this.intervalSeconds = intervalSeconds;
         this.baselineScanIntervalSeconds = baselineScanIntervalSeconds;
+        this.baselineScanBudgetNanos = baselineScanBudgetNanos;
+        this.enableLagSpikes = enableLagSpikes;
+        this.lagSpikeThresholdMillis = lagSpikeThresholdMillis;
+        this.lagSpikeTicks = lagSpikeTicks;
+        this.lagSpikeCooldownSeconds = lagSpikeCooldownSeconds;
+        this.lagSpikeMaxFiles = lagSpikeMaxFiles;
+        this.captureBudgetMicros = captureBudgetMicros;
+        this.staleSeriesCycles = staleSeriesCycles;
+        this.diffRecording = diffRecording;
+        this.enableFleet = enableFleet;
+        this.fleetIntervalSeconds = fleetIntervalSeconds;
     }
 
     /**
@@ -53,6 +121,11 @@ public final class PluginConfig {
     public static PluginConfig load(JavaPlugin plugin) {
         FileConfiguration cfg = plugin.getConfig();
         boolean enableTick = cfg.getBoolean("otel.enable.tick", true);
+        boolean enableTickPhases = cfg.getBoolean("otel.enable.tickPhases", false);
+        int tickPhasesSampleEvery = clamp(cfg.getInt("otel.tickPhases.sampleEvery", 20), 1, 1200);
+        boolean enableEventTimings = cfg.getBoolean("otel.enable.eventTimings", false);
+        int eventTimingsSampleEvery = clamp(cfg.getInt("otel.eventTimings.sampleEvery", 10), 1, 10_000);
+        boolean enableSchedulerTasks = cfg.getBoolean("otel.enable.schedulerTasks", false);
         boolean enableEntities = cfg.getBoolean("otel.enable.entities", true);
         EntitiesByChunkMode entitiesByChunkMode = EntitiesByChunkMode.fromString(
                 cfg.getString("otel.entitiesByChunk.mode", "")
@@ -63,6 +136,7 @@ public final class PluginConfig {
                     ? EntitiesByChunkMode.HEAVY
                     : EntitiesByChunkMode.OFF;
         }
+        int entitiesByChunkTopK = clamp(cfg.getInt("otel.entitiesByChunk.topK", 200), 0, 100_000);
         boolean enableChunks = cfg.getBoolean("otel.enable.chunks", true);
         boolean enableTpsMspt = cfg.getBoolean("otel.enable.tpsMspt", true);
         boolean preferSpark = cfg.getBoolean("otel.preferSpark", true);
@@ -72,18 +146,55 @@ public final class PluginConfig {
                 5,
                 300
         );
+        long baselineScanBudgetNanos = cfg.getLong("sampling.baselineScanBudgetNanos", 1_000_000L);
+        if (baselineScanBudgetNanos > 0L) {
+            baselineScanBudgetNanos = Math.max(50_000L, Math.min(50_000_000L, baselineScanBudgetNanos));
+        } else {
+            baselineScanBudgetNanos = 0L;
+        }
+        boolean enableLagSpikes = cfg.getBoolean("lagSpikes.enabled", false);
+        double lagSpikeThresholdMillis = Math.max(1d, Math.min(60_000d, cfg.getDouble("lagSpikes.thresholdMillis", 100d)));
+        int lagSpikeTicks = clamp(cfg.getInt("lagSpikes.ticks", 200), 20, 12_000);
+        int lagSpikeCooldownSeconds = clamp(cfg.getInt("lagSpikes.cooldownSeconds", 60), 0, 86_400);
+        int lagSpikeMaxFiles = clamp(cfg.getInt("lagSpikes.maxFiles", 20), 1, 1000);
+        int captureBudgetMicros = clamp(
+                cfg.getInt("sampling.captureBudgetMicros", 2000),
+                100,
+                50_000
+        );
+        int staleSeriesCycles = clamp(cfg.getInt("sampling.staleSeriesCycles", 5), 0, 1000);
+        boolean diffRecording = cfg.getBoolean("sampling.diffRecording", false);
+        boolean enableFleet = cfg.getBoolean("fleet.enabled", false);
+        int fleetIntervalSeconds = clamp(cfg.getInt("fleet.intervalSeconds", 5), 1, 300);
         if (!enableEntities) {
             entitiesByChunkMode = EntitiesByChunkMode.OFF;
         }
         return new PluginConfig(
                 enableTick,
+                enableTickPhases,
+                tickPhasesSampleEvery,
+                enableEventTimings,
+                eventTimingsSampleEvery,
+                enableSchedulerTasks,
                 enableEntities,
                 entitiesByChunkMode,
+                entitiesByChunkTopK,
                 enableChunks,
                 enableTpsMspt,
                 preferSpark,
                 intervalSeconds,
-                baselineScanIntervalSeconds
+                baselineScanIntervalSeconds,
+                baselineScanBudgetNanos,
+                enableLagSpikes,
+                lagSpikeThresholdMillis,
+                lagSpikeTicks,
+                lagSpikeCooldownSeconds,
+                lagSpikeMaxFiles,
+                captureBudgetMicros,
+                staleSeriesCycles,
+                diffRecording,
+                enableFleet,
+                fleetIntervalSeconds
         );
     }
 
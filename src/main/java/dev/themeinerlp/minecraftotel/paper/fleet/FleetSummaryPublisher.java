@@ -0,0 +1,100 @@
+package dev.themeinerlp.minecraftotel.paper.fleet;
+
+import dev.themeinerlp.minecraftotel.api.fleet.FleetSummary;
+import dev.themeinerlp.minecraftotel.api.fleet.FleetSummaryCodec;
+import dev.themeinerlp.minecraftotel.api.service.TelemetryListener;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
+import java.util.Iterator;
+import java.util.Map;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Sends a {@link FleetSummary} of every n-th snapshot to the proxy over plugin messaging.
+ *
+ * <p>The summary is encoded on the telemetry thread. Choosing a player and sending happen on the
+ * server thread, or on the player's region thread for Folia, because neither the player list nor
+ * the connection may be touched from other threads. Plugin messages travel over a player
+ * connection, so nothing is sent while the server is empty; the proxy drops a backend's summary
+ * once it is stale.
+ */
+public final class FleetSummaryPublisher implements TelemetryListener {
+    private final JavaPlugin plugin;
+    private final TelemetryScheduler scheduler;
+    private final int publishEverySamples;
+    private int samplesSincePublish;
+
+    /**
+     * Creates a fleet summary publisher.
+     *
+     * @param plugin plugin instance owning the channel
+     * @param scheduler scheduler used to send on the server thread
+     * @param publishEverySamples publishes one in this many snapshots
+     */
+    public FleetSummaryPublisher(JavaPlugin plugin, TelemetryScheduler scheduler, int publishEverySamples) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.publishEverySamples = Math.max(1, publishEverySamples);
+    }
+
+    /**
+     * Registers the outgoing plugin channel.
+     */
+    public void start() {
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, FleetSummary.CHANNEL);
+    }
+
+    /**
+     * Unregisters the outgoing plugin channel.
+     */
+    public void stop() {
+        plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, FleetSummary.CHANNEL);
+    }
+
+    @Override
+    public void onSample(TelemetrySnapshot snapshot) {
+        if (!(snapshot instanceof PaperTelemetrySnapshot paperSnapshot)) {
+            return;
+        }
+        if (++samplesSincePublish < publishEverySamples || !plugin.isEnabled()) {
+            return;
+        }
+        samplesSincePublish = 0;
+        byte[] message = FleetSummaryCodec.encode(summarize(paperSnapshot));
+        scheduler.runOnce(() -> send(message));
+    }
+
+    private void send(byte[] message) {
+        Iterator<? extends Player> players = plugin.getServer().getOnlinePlayers().iterator();
+        if (!players.hasNext()) {
+            return;
+        }
+        Player player = players.next();
+        scheduler.runForEntity(player, () -> player.sendPluginMessage(plugin, FleetSummary.CHANNEL, message));
+    }
+
+    private static FleetSummary summarize(PaperTelemetrySnapshot snapshot) {
+        long entities = snapshot.entitiesLoadedByWorld().map(FleetSummaryPublisher::sum).orElse(-1L);
+        double[] tps = snapshot.tpsNullable();
+        Double msptAvg = snapshot.msptAvgNullable();
+        Double msptP95 = snapshot.msptP95Nullable();
+        return new FleetSummary(
+                snapshot.playersOnline(),
+                entities,
+                sum(snapshot.chunksLoadedByWorld()),
+                tps == null || tps.length == 0 ? Double.NaN : tps[0],
+                msptAvg == null ? Double.NaN : msptAvg,
+                msptP95 == null ? Double.NaN : msptP95
+        );
+    }
+
+    private static long sum(Map<String, Long> values) {
+        long total = 0L;
+        for (long value : values.values()) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -1,10 +1,11 @@
 package dev.themeinerlp.minecraftotel.paper.listeners;
 
+import dev.themeinerlp.minecraftotel.api.collector.LongCounterHandle;
 import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
 import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
 import io.papermc.paper.event.packet.PlayerChunkLoadEvent;
 import io.papermc.paper.event.packet.PlayerChunkUnloadEvent;
-import io.opentelemetry.api.common.Attributes;
 import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -17,7 +18,10 @@ import org.bukkit.event.world.ChunkUnloadEvent;
  */
 public final class ChunkCounterListener implements Listener {
     private final TelemetryState state;
-    private final TelemetryCollector collector;
+    private final LongCounterHandle chunkLoads;
+    private final LongCounterHandle chunkUnloads;
+    private final LongCounterHandle chunksGenerated;
+    private final AttributeCache worldAttributes;
 
     /**
      * Creates a chunk counter listener.
@@ -27,7 +31,13 @@ public final class ChunkCounterListener implements Listener {
      */
     public ChunkCounterListener(TelemetryState state, TelemetryCollector collector) {
         this.state = state;
-        this.collector = collector;
+        this.chunkLoads = collector.longCounter(StandardMetrics.CHUNKS_LOAD_TOTAL, StandardMetrics.UNIT_COUNT);
+        this.chunkUnloads = collector.longCounter(StandardMetrics.CHUNKS_UNLOAD_TOTAL, StandardMetrics.UNIT_COUNT);
+        this.chunksGenerated = collector.longCounter(
+                StandardMetrics.CHUNKS_GENERATED_TOTAL,
+                StandardMetrics.UNIT_COUNT
+        );
+        this.worldAttributes = new AttributeCache(StandardMetrics.WORLD_KEY);
     }
 
     /**
@@ -38,20 +48,11 @@ public final class ChunkCounterListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onChunkLoad(ChunkLoadEvent event) {
         String worldName = event.getWorld().getName();
-        state.incrementChunk(worldName);
-        collector.recordLongCounter(
-                StandardMetrics.CHUNKS_LOAD_TOTAL,
-                1L,
-                StandardMetrics.UNIT_COUNT,
-                Attributes.of(StandardMetrics.WORLD_KEY, worldName)
-        );
+        state.incrementChunk(event.getChunk());
+        var attributes = worldAttributes.get(worldName);
+        chunkLoads.add(1L, attributes);
         if (event.isNewChunk()) {
-            collector.recordLongCounter(
-                    StandardMetrics.CHUNKS_GENERATED_TOTAL,
-                    1L,
-                    StandardMetrics.UNIT_COUNT,
-                    Attributes.of(StandardMetrics.WORLD_KEY, worldName)
-            );
+            chunksGenerated.add(1L, attributes);
         }
     }
 
@@ -63,13 +64,8 @@ public final class ChunkCounterListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onChunkUnload(ChunkUnloadEvent event) {
         String worldName = event.getWorld().getName();
-        state.decrementChunk(worldName);
-        collector.recordLongCounter(
-                StandardMetrics.CHUNKS_UNLOAD_TOTAL,
-                1L,
-                StandardMetrics.UNIT_COUNT,
-                Attributes.of(StandardMetrics.WORLD_KEY, worldName)
-        );
+        state.decrementChunk(event.getChunk());
+        chunkUnloads.add(1L, worldAttributes.get(worldName));
     }
 
     /**
@@ -2,9 +2,10 @@ package dev.themeinerlp.minecraftotel.paper.listeners;
 
 import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
 import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import dev.themeinerlp.minecraftotel.api.collector.LongCounterHandle;
 import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
 import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
-import io.opentelemetry.api.common.Attributes;
 import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -15,7 +16,9 @@ import org.bukkit.event.Listener;
  */
 public final class EntityCounterListener implements Listener {
     private final TelemetryState state;
-    private final TelemetryCollector collector;
+    private final LongCounterHandle entitiesAdded;
+    private final LongCounterHandle entitiesRemoved;
+    private final AttributeCache worldAttributes;
 
     /**
      * Creates an entity counter listener.
@@ -25,7 +28,12 @@ public final class EntityCounterListener implements Listener {
      */
     public EntityCounterListener(TelemetryState state, TelemetryCollector collector) {
         this.state = state;
-        this.collector = collector;
+        this.entitiesAdded = collector.longCounter(StandardMetrics.ENTITIES_ADDED_TOTAL, StandardMetrics.UNIT_COUNT);
+        this.entitiesRemoved = collector.longCounter(
+                StandardMetrics.ENTITIES_REMOVED_TOTAL,
+                StandardMetrics.UNIT_COUNT
+        );
+        this.worldAttributes = new AttributeCache(StandardMetrics.WORLD_KEY);
     }
 
     /**
@@ -36,17 +44,10 @@ public final class EntityCounterListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onEntityAdd(EntityAddToWorldEvent event) {
         String worldName = event.getEntity().getWorld().getName();
-        var typeKeyObj = event.getEntity().getType().getKey();
-        String typeKey = typeKeyObj == null ? "" : typeKeyObj.toString();
         state.incrementEntity(worldName);
-        state.incrementEntityType(typeKey);
+        state.incrementEntityType(event.getEntity().getType());
         state.incrementEntityTypeInChunk(event.getEntity());
-        collector.recordLongCounter(
-                StandardMetrics.ENTITIES_ADDED_TOTAL,
-                1L,
-                StandardMetrics.UNIT_COUNT,
-                Attributes.of(StandardMetrics.WORLD_KEY, worldName)
-        );
+        entitiesAdded.add(1L, worldAttributes.get(worldName));
     }
 
     /**
@@ -57,16 +58,9 @@ public final class EntityCounterListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onEntityRemove(EntityRemoveFromWorldEvent event) {
         String worldName = event.getEntity().getWorld().getName();
-        var typeKeyObj = event.getEntity().getType().getKey();
-        String typeKey = typeKeyObj == null ? "" : typeKeyObj.toString();
         state.decrementEntity(worldName);
-        state.decrementEntityType(typeKey);
+        state.decrementEntityType(event.getEntity().getType());
         state.decrementEntityTypeInChunk(event.getEntity());
-        collector.recordLongCounter(
-                StandardMetrics.ENTITIES_REMOVED_TOTAL,
-                1L,
-                StandardMetrics.UNIT_COUNT,
-                Attributes.of(StandardMetrics.WORLD_KEY, worldName)
-        );
+        entitiesRemoved.add(1L, worldAttributes.get(worldName));
     }
 }
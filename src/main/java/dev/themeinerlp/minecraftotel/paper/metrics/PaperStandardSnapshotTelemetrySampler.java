@@ -1,18 +1,68 @@
 package dev.themeinerlp.minecraftotel.paper.metrics;
 
+import dev.themeinerlp.minecraftotel.api.collector.DoubleGaugeHandle;
+import dev.themeinerlp.minecraftotel.api.collector.LongGaugeHandle;
 import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
 import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
 import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshotDiff;
+import dev.themeinerlp.minecraftotel.paper.util.LongIntCountMap;
 import io.opentelemetry.api.common.Attributes;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Emits standard MinecraftOTEL metrics for Paper snapshots.
+ *
+ * <p>With a keyframe interval above one, only every {@code keyframeEvery}-th sample records all
+ * keyed series; the samples in between record just the entries that changed since the previous
+ * snapshot. Keyframes have to come more often than stale series are evicted by the collector,
+ * otherwise unchanged series would be dropped. Scalar gauges are recorded on every sample.
  */
 public final class PaperStandardSnapshotTelemetrySampler implements TelemetrySampler {
+    private static final Attributes[] TPS_WINDOW_ATTRIBUTES = tpsWindowAttributes();
+
+    private final int entitiesByChunkTopK;
+    private final int keyframeEvery;
+    private final AttributeCache worldAttributes;
+    private final AttributeCache entityTypeAttributes;
+    private Instruments instruments;
+    private PaperTelemetrySnapshot previous;
+    private int samplesSinceKeyframe;
+
+    /**
+     * Creates a sampler that emits every entity type per chunk series.
+     */
+    public PaperStandardSnapshotTelemetrySampler() {
+        this(0);
+    }
+
+    /**
+     * Creates a sampler that limits entity type per chunk series to the hottest chunks.
+     *
+     * @param entitiesByChunkTopK number of chunks kept per sample, 0 keeps all chunks
+     */
+    public PaperStandardSnapshotTelemetrySampler(int entitiesByChunkTopK) {
+        this(entitiesByChunkTopK, 1);
+    }
+
+    /**
+     * Creates a sampler that records unchanged keyed series only on keyframes.
+     *
+     * @param entitiesByChunkTopK number of chunks kept per sample, 0 keeps all chunks
+     * @param keyframeEvery record all keyed series on one in this many samples, 1 records all every time
+     */
+    public PaperStandardSnapshotTelemetrySampler(int entitiesByChunkTopK, int keyframeEvery) {
+        this.entitiesByChunkTopK = Math.max(0, entitiesByChunkTopK);
+        this.keyframeEvery = Math.max(1, keyframeEvery);
+        this.worldAttributes = new AttributeCache(StandardMetrics.WORLD_KEY);
+        this.entityTypeAttributes = new AttributeCache(StandardMetrics.ENTITY_TYPE_KEY);
+    }
+
     @Override
     public void sample(TelemetrySnapshot snapshot, TelemetryCollector collector) {
         if (snapshot == null || collector == null) {
@@ -23,63 +73,39 @@ public final class PaperStandardSnapshotTelemetrySampler implements TelemetrySam
             return;
         }
 
-        collector.recordLongGauge(
-                StandardMetrics.PLAYERS_ONLINE,
-                paperSnapshot.playersOnline(),
-                StandardMetrics.UNIT_COUNT,
-                Attributes.empty()
-        );
+        Instruments metrics = instrumentsFor(collector);
+        PaperTelemetrySnapshotDiff diff = nextDiff(paperSnapshot);
+        previous = paperSnapshot;
+        metrics.playersOnline.record(paperSnapshot.playersOnline(), Attributes.empty());
 
         paperSnapshot.entitiesLoadedByWorld().ifPresent(entitiesByWorld -> {
-            for (Map.Entry<String, Long> entry : entitiesByWorld.entrySet()) {
-                collector.recordLongGauge(
-                        StandardMetrics.ENTITIES_LOADED,
-                        entry.getValue(),
-                        StandardMetrics.UNIT_COUNT,
-                        Attributes.of(StandardMetrics.WORLD_KEY, entry.getKey())
-                );
+            Map<String, Long> entries = diff == null ? entitiesByWorld : diff.entitiesLoadedByWorld().changed();
+            for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                metrics.entitiesLoaded.record(entry.getValue(), worldAttributes.get(entry.getKey()));
             }
         });
 
         paperSnapshot.entitiesLoadedByType().ifPresent(entitiesByType -> {
-            for (Map.Entry<String, Long> entry : entitiesByType.entrySet()) {
-                collector.recordLongGauge(
-                        StandardMetrics.ENTITIES_LOADED_BY_TYPE,
-                        entry.getValue(),
-                        StandardMetrics.UNIT_COUNT,
-                        Attributes.of(StandardMetrics.ENTITY_TYPE_KEY, entry.getKey())
-                );
+            Map<String, Long> entries = diff == null ? entitiesByType : diff.entitiesLoadedByType().changed();
+            for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                metrics.entitiesLoadedByType.record(entry.getValue(), entityTypeAttributes.get(entry.getKey()));
             }
         });
 
         paperSnapshot.entitiesLoadedByTypeAndChunk().ifPresent(entitiesByTypeAndChunk -> {
-            for (Map.Entry<ChunkEntityKey, Long> entry : entitiesByTypeAndChunk.entrySet()) {
-                var key = entry.getKey();
-                collector.recordLongGauge(
-                        StandardMetrics.ENTITIES_LOADED_BY_TYPE_CHUNK,
-                        entry.getValue(),
-                        StandardMetrics.UNIT_COUNT,
-                        Attributes.of(
-                                StandardMetrics.WORLD_KEY,
-                                key.worldName(),
-                                StandardMetrics.CHUNK_X_KEY,
-                                (long) key.chunkX(),
-                                StandardMetrics.CHUNK_Z_KEY,
-                                (long) key.chunkZ(),
-                                StandardMetrics.ENTITY_TYPE_KEY,
-                                key.entityType()
-                        )
-                );
+            // The top-K selection and the rollup need every chunk, so only the unbounded mode uses the diff.
+            if (diff == null || entitiesByChunkTopK > 0) {
+                recordEntitiesByTypeAndChunk(entitiesByTypeAndChunk, metrics);
+            } else {
+                recordEntitiesByTypeAndChunk(diff.entitiesLoadedByTypeAndChunk().changed(), metrics);
             }
         });
 
-        for (Map.Entry<String, Long> entry : paperSnapshot.chunksLoadedByWorld().entrySet()) {
-            collector.recordLongGauge(
-                    StandardMetrics.CHUNKS_LOADED,
-                    entry.getValue(),
-                    StandardMetrics.UNIT_COUNT,
-                    Attributes.of(StandardMetrics.WORLD_KEY, entry.getKey())
-            );
+        Map<String, Long> chunksByWorld = diff == null
+                ? paperSnapshot.chunksLoadedByWorld()
+                : diff.chunksLoadedByWorld().changed();
+        for (Map.Entry<String, Long> entry : chunksByWorld.entrySet()) {
+            metrics.chunksLoaded.record(entry.getValue(), worldAttributes.get(entry.getKey()));
         }
 
         long totalChunksLoaded = 0L;
@@ -94,10 +120,8 @@ public final class PaperStandardSnapshotTelemetrySampler implements TelemetrySam
                 totalEntitiesLoaded += value;
             }
             if (totalChunksLoadedFinal > 0L) {
-                collector.recordDoubleGauge(
-                        StandardMetrics.ENTITIES_PER_CHUNK,
+                metrics.entitiesPerChunk.record(
                         totalEntitiesLoaded / (double) totalChunksLoadedFinal,
-                        StandardMetrics.UNIT_COUNT,
                         Attributes.empty()
                 );
             }
@@ -107,44 +131,308 @@ public final class PaperStandardSnapshotTelemetrySampler implements TelemetrySam
         double chunksPerPlayer = totalChunksLoadedFinal > 0L
                 ? exclusiveChunksLoaded / (double) totalChunksLoadedFinal
                 : 0.0d;
-        collector.recordDoubleGauge(
-                StandardMetrics.CHUNKS_LOADED_PER_PLAYER,
-                chunksPerPlayer,
-                StandardMetrics.UNIT_COUNT,
-                Attributes.empty()
-        );
+        metrics.chunksLoadedPerPlayer.record(chunksPerPlayer, Attributes.empty());
 
         double[] tps = paperSnapshot.tpsNullable();
         if (tps != null) {
-            int limit = Math.min(tps.length, StandardMetrics.TPS_WINDOWS.length);
+            int limit = Math.min(tps.length, TPS_WINDOW_ATTRIBUTES.length);
             for (int i = 0; i < limit; i++) {
-                collector.recordDoubleGauge(
-                        StandardMetrics.SERVER_TPS,
-                        tps[i],
-                        StandardMetrics.UNIT_COUNT,
-                        Attributes.of(StandardMetrics.WINDOW_KEY, StandardMetrics.TPS_WINDOWS[i])
-                );
+                metrics.serverTps.record(tps[i], TPS_WINDOW_ATTRIBUTES[i]);
             }
         }
 
         Double msptAvg = paperSnapshot.msptAvgNullable();
         if (msptAvg != null) {
-            collector.recordDoubleGauge(
-                    StandardMetrics.SERVER_MSPT_AVG,
-                    msptAvg,
-                    StandardMetrics.UNIT_MILLIS,
-                    Attributes.empty()
-            );
+            metrics.msptAvg.record(msptAvg, Attributes.empty());
         }
 
         Double msptP95 = paperSnapshot.msptP95Nullable();
         if (msptP95 != null) {
-            collector.recordDoubleGauge(
-                    StandardMetrics.SERVER_MSPT_P95,
-                    msptP95,
-                    StandardMetrics.UNIT_MILLIS,
-                    Attributes.empty()
+            metrics.msptP95.record(msptP95, Attributes.empty());
+        }
+
+        paperSnapshot.msptPercentiles().ifPresent(percentiles -> {
+            metrics.msptP50.record(percentiles.p50(), Attributes.empty());
+            metrics.msptP90.record(percentiles.p90(), Attributes.empty());
+            metrics.msptP99.record(percentiles.p99(), Attributes.empty());
+            metrics.msptP999.record(percentiles.p999(), Attributes.empty());
+            metrics.msptMax.record(percentiles.max(), Attributes.empty());
+        });
+    }
+
+    private Instruments instrumentsFor(TelemetryCollector collector) {
+        Instruments current = instruments;
+        if (current == null || current.collector != collector) {
+            current = new Instruments(collector);
+            instruments = current;
+            previous = null;
+        }
+        return current;
+    }
+
+    private PaperTelemetrySnapshotDiff nextDiff(PaperTelemetrySnapshot snapshot) {
+        if (previous == null || ++samplesSinceKeyframe >= keyframeEvery) {
+            samplesSinceKeyframe = 0;
+            return null;
+        }
+        return snapshot.diff(previous).orElse(null);
+    }
+
+    private void recordEntitiesByTypeAndChunk(
+            Map<ChunkEntityKey, Long> entitiesByTypeAndChunk,
+            Instruments metrics
+    ) {
+        Map<String, LongIntCountMap> topChunks = entitiesByChunkTopK > 0
+                ? selectTopChunks(entitiesByTypeAndChunk, entitiesByChunkTopK)
+                : null;
+
+        Map<WorldTypeRef, Long> otherChunks = new HashMap<>();
+        long droppedSeries = 0L;
+        for (Map.Entry<ChunkEntityKey, Long> entry : entitiesByTypeAndChunk.entrySet()) {
+            var key = entry.getKey();
+            if (topChunks != null && !isTopChunk(topChunks, key)) {
+                if (entry.getValue() <= 0L) {
+                    // Emptied entries stay in the map until the next baseline and are not dropped series.
+                    continue;
+                }
+                otherChunks.merge(new WorldTypeRef(key.worldName(), key.entityType()), entry.getValue(), Long::sum);
+                droppedSeries++;
+                continue;
+            }
+            metrics.entitiesLoadedByTypeChunk.record(
+                    entry.getValue(),
+                    Attributes.of(
+                            StandardMetrics.WORLD_KEY,
+                            key.worldName(),
+                            StandardMetrics.CHUNK_X_KEY,
+                            (long) key.chunkX(),
+                            StandardMetrics.CHUNK_Z_KEY,
+                            (long) key.chunkZ(),
+                            StandardMetrics.ENTITY_TYPE_KEY,
+                            key.entityType()
+                    )
+            );
+        }
+        if (topChunks == null) {
+            return;
+        }
+
+        for (Map.Entry<WorldTypeRef, Long> entry : otherChunks.entrySet()) {
+            metrics.entitiesLoadedByTypeChunk.record(
+                    entry.getValue(),
+                    Attributes.of(
+                            StandardMetrics.WORLD_KEY,
+                            entry.getKey().worldName(),
+                            StandardMetrics.CHUNK_KEY,
+                            StandardMetrics.CHUNK_OTHER,
+                            StandardMetrics.ENTITY_TYPE_KEY,
+                            entry.getKey().entityType()
+                    )
             );
         }
+        metrics.entitiesLoadedByTypeChunkDropped.record(droppedSeries, Attributes.empty());
+    }
+
+    /**
+     * Sums entities per chunk and returns the {@code limit} chunks with the most entities, as packed
+     * coordinates per world. Entries with a count of zero are ignored. Ties are broken by world name
+     * and coordinates, so the selection only depends on the counts and not on map iteration order.
+     */
+    private static Map<String, LongIntCountMap> selectTopChunks(
+            Map<ChunkEntityKey, Long> entitiesByTypeAndChunk,
+            int limit
+    ) {
+        Map<String, LongIntCountMap> sums = new HashMap<>();
+        int chunkCount = 0;
+        for (Map.Entry<ChunkEntityKey, Long> entry : entitiesByTypeAndChunk.entrySet()) {
+            if (entry.getValue() <= 0L) {
+                continue;
+            }
+            ChunkEntityKey key = entry.getKey();
+            LongIntCountMap chunks = sums.computeIfAbsent(key.worldName(), ignored -> new LongIntCountMap());
+            int amount = (int) Math.min(Integer.MAX_VALUE, entry.getValue());
+            if (chunks.add(LongIntCountMap.pack(key.chunkX(), key.chunkZ()), amount) == 0) {
+                chunkCount++;
+            }
+        }
+        if (chunkCount <= limit) {
+            return sums;
+        }
+
+        ChunkRanking ranking = new ChunkRanking(chunkCount);
+        for (Map.Entry<String, LongIntCountMap> world : sums.entrySet()) {
+            LongIntCountMap chunks = world.getValue();
+            for (long chunk : chunks.keys()) {
+                ranking.add(world.getKey(), chunk, chunks.get(chunk));
+            }
+        }
+        Map<String, LongIntCountMap> top = new HashMap<>();
+        for (int index : ranking.top(limit)) {
+            top.computeIfAbsent(ranking.worlds[index], ignored -> new LongIntCountMap()).increment(ranking.chunks[index]);
+        }
+        return top;
+    }
+
+    private static boolean isTopChunk(Map<String, LongIntCountMap> topChunks, ChunkEntityKey key) {
+        LongIntCountMap chunks = topChunks.get(key.worldName());
+        return chunks != null && chunks.get(LongIntCountMap.pack(key.chunkX(), key.chunkZ())) > 0;
+    }
+
+    private static Attributes[] tpsWindowAttributes() {
+        Attributes[] attributes = new Attributes[StandardMetrics.TPS_WINDOWS.length];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = Attributes.of(StandardMetrics.WINDOW_KEY, StandardMetrics.TPS_WINDOWS[i]);
+        }
+        return attributes;
+    }
+
+    /**
+     * Handles resolved for one collector, rebuilt if the sampler is handed a different collector.
+     */
+    private static final class Instruments {
+        private final TelemetryCollector collector;
+        private final LongGaugeHandle playersOnline;
+        private final LongGaugeHandle entitiesLoaded;
+        private final LongGaugeHandle entitiesLoadedByType;
+        private final LongGaugeHandle entitiesLoadedByTypeChunk;
+        private final LongGaugeHandle entitiesLoadedByTypeChunkDropped;
+        private final LongGaugeHandle chunksLoaded;
+        private final DoubleGaugeHandle entitiesPerChunk;
+        private final DoubleGaugeHandle chunksLoadedPerPlayer;
+        private final DoubleGaugeHandle serverTps;
+        private final DoubleGaugeHandle msptAvg;
+        private final DoubleGaugeHandle msptP95;
+        private final DoubleGaugeHandle msptP50;
+        private final DoubleGaugeHandle msptP90;
+        private final DoubleGaugeHandle msptP99;
+        private final DoubleGaugeHandle msptP999;
+        private final DoubleGaugeHandle msptMax;
+
+        private Instruments(TelemetryCollector collector) {
+            this.collector = collector;
+            this.playersOnline = collector.longGauge(StandardMetrics.PLAYERS_ONLINE, StandardMetrics.UNIT_COUNT);
+            this.entitiesLoaded = collector.longGauge(StandardMetrics.ENTITIES_LOADED, StandardMetrics.UNIT_COUNT);
+            this.entitiesLoadedByType = collector.longGauge(
+                    StandardMetrics.ENTITIES_LOADED_BY_TYPE,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.entitiesLoadedByTypeChunk = collector.longGauge(
+                    StandardMetrics.ENTITIES_LOADED_BY_TYPE_CHUNK,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.entitiesLoadedByTypeChunkDropped = collector.longGauge(
+                    StandardMetrics.ENTITIES_LOADED_BY_TYPE_CHUNK_DROPPED,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.chunksLoaded = collector.longGauge(StandardMetrics.CHUNKS_LOADED, StandardMetrics.UNIT_COUNT);
+            this.entitiesPerChunk = collector.doubleGauge(StandardMetrics.ENTITIES_PER_CHUNK, StandardMetrics.UNIT_COUNT);
+            this.chunksLoadedPerPlayer = collector.doubleGauge(
+                    StandardMetrics.CHUNKS_LOADED_PER_PLAYER,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.serverTps = collector.doubleGauge(StandardMetrics.SERVER_TPS, StandardMetrics.UNIT_COUNT);
+            this.msptAvg = collector.doubleGauge(StandardMetrics.SERVER_MSPT_AVG, StandardMetrics.UNIT_MILLIS);
+            this.msptP95 = collector.doubleGauge(StandardMetrics.SERVER_MSPT_P95, StandardMetrics.UNIT_MILLIS);
+            this.msptP50 = collector.doubleGauge(StandardMetrics.SERVER_MSPT_P50, StandardMetrics.UNIT_MILLIS);
+            this.msptP90 = collector.doubleGauge(StandardMetrics.SERVER_MSPT_P90, StandardMetrics.UNIT_MILLIS);
+            this.msptP99 = collector.doubleGauge(StandardMetrics.SERVER_MSPT_P99, StandardMetrics.UNIT_MILLIS);
+            this.msptP999 = collector.doubleGauge(StandardMetrics.SERVER_MSPT_P999, StandardMetrics.UNIT_MILLIS);
+            this.msptMax = collector.doubleGauge(StandardMetrics.SERVER_MSPT_MAX, StandardMetrics.UNIT_MILLIS);
+        }
+    }
+
+    /**
+     * Per-chunk entity sums in parallel arrays with an exact top-K selection over them.
+     */
+    private static final class ChunkRanking {
+        private final String[] worlds;
+        private final long[] chunks;
+        private final int[] counts;
+        private int size;
+
+        private ChunkRanking(int capacity) {
+            this.worlds = new String[capacity];
+            this.chunks = new long[capacity];
+            this.counts = new int[capacity];
+        }
+
+        private void add(String world, long chunk, int count) {
+            worlds[size] = world;
+            chunks[size] = chunk;
+            counts[size] = count;
+            size++;
+        }
+
+        /**
+         * Returns the indexes of the {@code limit} highest ranked chunks in no particular order.
+         *
+         * <p>Keeps a min-heap of the best chunks seen so far, so the selection runs in
+         * O(n log k) without sorting all chunks.
+         */
+        private int[] top(int limit) {
+            int[] heap = new int[Math.min(limit, size)];
+            int heapSize = 0;
+            for (int candidate = 0; candidate < size; candidate++) {
+                if (heapSize < heap.length) {
+                    heap[heapSize] = candidate;
+                    siftUp(heap, heapSize++);
+                } else if (ranksAbove(candidate, heap[0])) {
+                    heap[0] = candidate;
+                    siftDown(heap, heapSize);
+                }
+            }
+            return heap;
+        }
+
+        private boolean ranksAbove(int first, int second) {
+            if (counts[first] != counts[second]) {
+                return counts[first] > counts[second];
+            }
+            int world = worlds[first].compareTo(worlds[second]);
+            if (world != 0) {
+                return world < 0;
+            }
+            return chunks[first] < chunks[second];
+        }
+
+        private void siftUp(int[] heap, int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksAbove(heap[parent], heap[index])) {
+                    return;
+                }
+                swap(heap, parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int[] heap, int heapSize) {
+            int index = 0;
+            while (true) {
+                int weakest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && ranksAbove(heap[weakest], heap[left])) {
+                    weakest = left;
+                }
+                if (right < heapSize && ranksAbove(heap[weakest], heap[right])) {
+                    weakest = right;
+                }
+                if (weakest == index) {
+                    return;
+                }
+                swap(heap, index, weakest);
+                index = weakest;
+            }
+        }
+
+        private static void swap(int[] heap, int first, int second) {
+            int value = heap[first];
+            heap[first] = heap[second];
+            heap[second] = value;
+        }
+    }
+
+    private record WorldTypeRef(String worldName, String entityType) {
     }
 }
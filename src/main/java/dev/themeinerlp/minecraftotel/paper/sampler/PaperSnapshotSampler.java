@@ -4,9 +4,12 @@ import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotBuilder;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotSampler;
 import dev.themeinerlp.minecraftotel.paper.config.PluginConfig;
 import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
+import dev.themeinerlp.minecraftotel.paper.scan.BaselineScanner;
+import dev.themeinerlp.minecraftotel.paper.snapshot.MsptPercentiles;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshotBuilder;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
 import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import dev.themeinerlp.minecraftotel.paper.tick.TickTimeWindow;
 import dev.themeinerlp.minecraftotel.paper.util.Percentiles;
 import java.util.Arrays;
 import java.util.Map;
@@ -27,13 +30,53 @@ public final class PaperSnapshotSampler implements TelemetrySnapshotSampler {
     private final PluginConfig config;
     private final TelemetryState state;
     private final TpsSampler tpsSampler;
+    private final BaselineScanner baselineScanner;
+    private final TickTimeWindow tickTimeWindow;
     private long lastBaselineMillis;
 
     public PaperSnapshotSampler(Server server, PluginConfig config, TelemetryState state) {
+        this(server, config, state, null);
+    }
+
+    /**
+     * Creates a sampler that delegates baseline scans to a scanner when present.
+     *
+     * @param server Bukkit server
+     * @param config plugin configuration
+     * @param state telemetry state
+     * @param baselineScanner baseline scanner or null to scan synchronously
+     */
+    public PaperSnapshotSampler(
+            Server server,
+            PluginConfig config,
+            TelemetryState state,
+            BaselineScanner baselineScanner
+    ) {
+        this(server, config, state, baselineScanner, null);
+    }
+
+    /**
+     * Creates a sampler that reads MSPT percentiles from a tick window when present.
+     *
+     * @param server Bukkit server
+     * @param config plugin configuration
+     * @param state telemetry state
+     * @param baselineScanner baseline scanner or null to scan synchronously
+     * @param tickTimeWindow MSPT window or null to derive p95 from the server tick times
+     */
+    public PaperSnapshotSampler(
+            Server server,
+            PluginConfig config,
+            TelemetryState state,
+            BaselineScanner baselineScanner,
+            TickTimeWindow tickTimeWindow
+    ) {
         this.server = server;
         this.config = config;
         this.state = state;
         this.tpsSampler = new TpsSampler(config.enableTpsMspt && config.preferSpark, server);
+        this.baselineScanner = baselineScanner;
+        this.tickTimeWindow = tickTimeWindow;
     }
 
     @Override
@@ -41,9 +84,24 @@ public final class PaperSnapshotSampler implements TelemetrySnapshotSampler {
         if (!(builder instanceof PaperTelemetrySnapshotBuilder paperBuilder)) {
             return;
         }
+        paperBuilder.overrideWith(complete(capture(), null));
+    }
+
+    /**
+     * Reads the raw values that require the server thread and runs due baseline scans.
+     *
+     * <p>Synchronous baselines are applied to the gauges right away, so listener deltas between
+     * capture and publish are added on top of them.
+     *
+     * @return captured values for {@link #complete(Capture, PaperTelemetrySnapshotBuilder)}
+     */
+    public Capture capture() {
         long playersOnline = server.getOnlinePlayers().size();
+        MsptPercentiles msptPercentiles = config.enableTpsMspt && tickTimeWindow != null
+                ? tickTimeWindow.percentiles()
+                : null;
         SampleResult sampleResult = config.enableTpsMspt
-                ? tpsSampler.sample(server)
+                ? tpsSampler.sample(server, msptPercentiles)
                 : SampleResult.empty();
 
         long now = System.currentTimeMillis();
@@ -54,38 +112,66 @@ public final class PaperSnapshotSampler implements TelemetrySnapshotSampler {
         }
 
         Map<String, Long> baselineEntities = null;
-        Map<String, Long> baselineEntityTypes = null;
+        long[] baselineEntityTypeCounts = null;
         Map<ChunkEntityKey, Long> baselineEntityTypesByChunk = null;
+        Map<String, Long> baselineChunks = null;
+        if (baselineScanner != null) {
+            // The scanner applies the baseline itself once its pass has completed.
+            boolean includeEntityTotals = config.enableEntities && !state.isEntityEventsAvailable();
+            boolean includeEntityTypesByChunk = config.enableEntities
+                    && config.entitiesByChunkMode != EntitiesByChunkMode.OFF;
+            if (baselineDue && (includeEntityTotals || includeEntityTypesByChunk || config.enableChunks)) {
+                baselineScanner.requestScan(includeEntityTotals, config.enableChunks);
+            }
+        } else {
+            if (config.enableEntities && baselineDue && !state.isEntityEventsAvailable()) {
+                baselineEntities = state.scanEntities(server);
+                baselineEntityTypeCounts = state.scanEntitiesByType(server);
+            }
+            if (config.enableEntities && config.entitiesByChunkMode != EntitiesByChunkMode.OFF && baselineDue) {
+                baselineEntityTypesByChunk = state.scanEntitiesByTypeAndChunk(server);
+            }
+            if (config.enableChunks && baselineDue) {
+                baselineChunks = state.scanChunks(server);
+            }
+        }
         if (!config.enableEntities) {
             baselineEntities = Map.of();
-            baselineEntityTypes = Map.of();
+            baselineEntityTypeCounts = new long[0];
             baselineEntityTypesByChunk = Map.of();
-        } else if (baselineDue && !state.isEntityEventsAvailable()) {
-            baselineEntities = state.scanEntities(server);
-            baselineEntityTypes = state.scanEntitiesByType(server);
         }
-        if (config.enableEntities && config.entitiesByChunkMode != EntitiesByChunkMode.OFF && baselineDue) {
-            baselineEntityTypesByChunk = state.scanEntitiesByTypeAndChunk(server);
-        }
-
-        Map<String, Long> baselineChunks = null;
         if (!config.enableChunks) {
             baselineChunks = Map.of();
-        } else if (baselineDue) {
-            baselineChunks = state.scanChunks(server);
         }
+        state.replaceBaselines(baselineEntities, baselineEntityTypeCounts, baselineEntityTypesByChunk, baselineChunks);
 
+        return new Capture(playersOnline, sampleResult, msptPercentiles);
+    }
+
+    /**
+     * Builds the standard Paper values from a capture and the current gauges.
+     *
+     * <p>Values set on {@code overrides} replace the standard values, like snapshot samplers that
+     * run after this one did before sampling was split into stages. Only touches thread-safe
+     * state, so it may run off the server thread.
+     *
+     * @param capture values captured on the server thread
+     * @param overrides builder filled by other snapshot samplers, or null
+     * @return completed builder
+     */
+    public PaperTelemetrySnapshotBuilder complete(Capture capture, PaperTelemetrySnapshotBuilder overrides) {
         var snapshot = state.rebuildSnapshot(
-                playersOnline,
-                sampleResult.tpsNullable,
-                sampleResult.msptAvgNullable,
-                sampleResult.msptP95Nullable,
-                baselineEntities,
-                baselineEntityTypes,
-                baselineEntityTypesByChunk,
-                baselineChunks
+                capture.playersOnline,
+                capture.sampleResult.tpsNullable,
+                capture.sampleResult.msptAvgNullable,
+                capture.sampleResult.msptP95Nullable,
+                null,
+                null,
+                null,
+                null
         );
 
+        PaperTelemetrySnapshotBuilder paperBuilder = new PaperTelemetrySnapshotBuilder();
         paperBuilder.setPlayersOnline(snapshot.playersOnline());
         if (config.enableEntities) {
             snapshot.entitiesLoadedByWorld().ifPresent(paperBuilder::setEntitiesLoadedByWorld);
@@ -99,13 +185,30 @@ public final class PaperSnapshotSampler implements TelemetrySnapshotSampler {
                 .setExclusiveChunksLoaded(snapshot.exclusiveChunksLoaded())
                 .setTps(snapshot.tpsNullable())
                 .setMsptAvg(snapshot.msptAvgNullable())
-                .setMsptP95(snapshot.msptP95Nullable());
+                .setMsptP95(snapshot.msptP95Nullable())
+                .setMsptPercentiles(capture.msptPercentiles);
+        return overrides == null ? paperBuilder : paperBuilder.overrideWith(overrides);
     }
 
     public String samplerName() {
         return tpsSampler.getName();
     }
 
+    /**
+     * Raw values captured on the server thread for one sampling cycle.
+     */
+    public static final class Capture {
+        private final long playersOnline;
+        private final SampleResult sampleResult;
+        private final MsptPercentiles msptPercentiles;
+
+        private Capture(long playersOnline, SampleResult sampleResult, MsptPercentiles msptPercentiles) {
+            this.playersOnline = playersOnline;
+            this.sampleResult = sampleResult;
+            this.msptPercentiles = msptPercentiles;
+        }
+    }
+
     private static final class SampleResult {
         private final double[] tpsNullable;
         private final Double msptAvgNullable;
@@ -131,10 +234,19 @@ public final class PaperSnapshotSampler implements TelemetrySnapshotSampler {
                     : null;
         }
 
-        private SampleResult sample(Server server) {
-            double[] tps = server.getTPS();
-            double msptAvg = server.getAverageTickTime();
-            Double msptP95 = Percentiles.p95Ms(server.getTickTimes());
+        private SampleResult sample(Server server, MsptPercentiles msptPercentiles) {
+            double[] tps = null;
+            Double msptAvg = null;
+            Double msptP95 = msptPercentiles == null ? null : msptPercentiles.p95();
+            try {
+                tps = server.getTPS();
+                msptAvg = server.getAverageTickTime();
+                if (msptP95 == null) {
+                    msptP95 = Percentiles.p95Ms(server.getTickTimes());
+                }
+            } catch (UnsupportedOperationException ignored) {
+                // Folia does not expose server-wide tick statistics.
+            }
 
             if (sparkBridge != null && sparkBridge.isAvailable()) {
                 double[] sparkTps = sparkBridge.sampleTps();
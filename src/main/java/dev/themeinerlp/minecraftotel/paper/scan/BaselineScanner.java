@@ -0,0 +1,20 @@
+package dev.themeinerlp.minecraftotel.paper.scan;
+
+/**
+ * Scanner that refreshes gauge baselines without blocking a single tick.
+ */
+public interface BaselineScanner {
+    /**
+     * Starts a baseline pass unless one is still running. Results are applied to the state
+     * once the pass completes.
+     *
+     * @param includeEntityTotals whether entities per world and per type are rescanned
+     * @param includeChunks whether loaded chunks per world are rescanned
+     */
+    void requestScan(boolean includeEntityTotals, boolean includeChunks);
+
+    /**
+     * Stops the scanner and drops any pass in progress.
+     */
+    void stop();
+}
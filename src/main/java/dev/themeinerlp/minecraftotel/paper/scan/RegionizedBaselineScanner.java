@@ -0,0 +1,304 @@
+package dev.themeinerlp.minecraftotel.paper.scan;
+
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import dev.themeinerlp.minecraftotel.paper.state.BaselineAccumulator;
+import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import dev.themeinerlp.minecraftotel.paper.util.LongIntCountMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.bukkit.Chunk;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.slf4j.Logger;
+
+/**
+ * Baseline scanner for Folia that fans chunk scans out to the owning region threads.
+ *
+ * <p>Loaded chunks are tracked per 16x16 chunk section from chunk events. A scan schedules one
+ * task per section on the region scheduler, each task counts into its own partial accumulator,
+ * and the merged result is applied to the state once every section has reported back.
+ *
+ * <p>Folia never runs a region task whose chunks are no longer loaded. When the last chunk of a
+ * pending section, or a pending single chunk, unloads before its task ran, the unload event
+ * settles the task instead; whichever comes first claims it, so every task is counted once.
+ */
+public final class RegionizedBaselineScanner implements BaselineScanner, Listener {
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_SHIFT;
+    private static final long SCAN_TIMEOUT_MILLIS = 60_000L;
+
+    private final Server server;
+    private final Logger logger;
+    private final TelemetryScheduler scheduler;
+    private final TelemetryState state;
+    private final Map<String, LongIntCountMap> loadedSections;
+    private final AtomicReference<ScanPass> activePass;
+
+    /**
+     * Creates a regionized baseline scanner.
+     *
+     * @param server Bukkit server
+     * @param logger logger for chunks that cannot be seeded
+     * @param scheduler region-aware scheduler
+     * @param state telemetry state receiving the baselines
+     */
+    public RegionizedBaselineScanner(
+            Server server,
+            Logger logger,
+            TelemetryScheduler scheduler,
+            TelemetryState state
+    ) {
+        this.server = server;
+        this.logger = logger;
+        this.scheduler = scheduler;
+        this.state = state;
+        this.loadedSections = new ConcurrentHashMap<>();
+        this.activePass = new AtomicReference<>();
+    }
+
+    /**
+     * Seeds the section index with chunks that were loaded before the plugin was enabled.
+     */
+    public void seedLoadedChunks() {
+        for (World world : server.getWorlds()) {
+            try {
+                for (Chunk chunk : world.getLoadedChunks()) {
+                    trackChunk(world.getName(), chunk.getX(), chunk.getZ(), true);
+                }
+            } catch (UnsupportedOperationException | IllegalStateException exception) {
+                logger.warn(
+                        "Could not read the loaded chunks of world {}; chunks loaded before MinecraftOTEL was "
+                                + "enabled are left out of baseline scans until they load again.",
+                        world.getName(),
+                        exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Unregisters the chunk listeners and drops the section index.
+     */
+    @Override
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        loadedSections.clear();
+        ScanPass current = activePass.getAndSet(null);
+        if (current != null) {
+            state.discardBaseline(current.result);
+        }
+    }
+
+    /**
+     * Tracks chunk loads per section.
+     *
+     * @param event chunk load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        trackChunk(event.getWorld().getName(), event.getChunk().getX(), event.getChunk().getZ(), true);
+    }
+
+    /**
+     * Tracks chunk unloads per section.
+     *
+     * @param event chunk unload event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        trackChunk(event.getWorld().getName(), event.getChunk().getX(), event.getChunk().getZ(), false);
+    }
+
+    @Override
+    public void requestScan(boolean includeEntityTotals, boolean includeChunks) {
+        long now = System.currentTimeMillis();
+        ScanPass current = activePass.get();
+        if (current != null && now - current.startedMillis < SCAN_TIMEOUT_MILLIS) {
+            return;
+        }
+        ScanPass pass = new ScanPass(state.newBaselineAccumulator(includeEntityTotals, includeChunks), now);
+        if (!activePass.compareAndSet(current, pass)) {
+            state.discardBaseline(pass.result);
+            return;
+        }
+        if (current != null) {
+            state.discardBaseline(current.result);
+        }
+        for (World world : server.getWorlds()) {
+            String worldName = world.getName();
+            pass.result.addWorld(worldName);
+            LongIntCountMap sections = loadedSections.get(worldName);
+            if (sections == null) {
+                continue;
+            }
+            long[] keys;
+            synchronized (sections) {
+                keys = sections.keys();
+            }
+            for (long key : keys) {
+                int sectionX = LongIntCountMap.unpackX(key);
+                int sectionZ = LongIntCountMap.unpackZ(key);
+                pass.pending.incrementAndGet();
+                pass.pendingTasks(pass.pendingSections, worldName).add(key);
+                if (!isSectionLoaded(sections, key)) {
+                    // Unloaded before it was registered, so no unload event will settle it.
+                    if (pass.claim(pass.pendingSections, worldName, key)) {
+                        pass.pending.decrementAndGet();
+                    }
+                    continue;
+                }
+                scheduler.runAtChunk(
+                        world,
+                        sectionX << SECTION_SHIFT,
+                        sectionZ << SECTION_SHIFT,
+                        () -> scanSection(pass, world, worldName, sectionX, sectionZ)
+                );
+            }
+        }
+        // Releases the hold taken at creation so an empty pass completes immediately.
+        completePartial(pass, null);
+    }
+
+    private void scanSection(ScanPass pass, World world, String worldName, int sectionX, int sectionZ) {
+        if (!pass.claim(pass.pendingSections, worldName, LongIntCountMap.pack(sectionX, sectionZ))) {
+            return;
+        }
+        if (activePass.get() != pass) {
+            return;
+        }
+        BaselineAccumulator partial = pass.result.newPartial();
+        int minX = sectionX << SECTION_SHIFT;
+        int minZ = sectionZ << SECTION_SHIFT;
+        for (int chunkX = minX; chunkX < minX + SECTION_SIZE; chunkX++) {
+            for (int chunkZ = minZ; chunkZ < minZ + SECTION_SIZE; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+                if (!server.isOwnedByCurrentRegion(world, chunkX, chunkZ)) {
+                    // Region sections smaller than 16 chunks: hand the chunk to its own region.
+                    int ownedX = chunkX;
+                    int ownedZ = chunkZ;
+                    pass.pending.incrementAndGet();
+                    long chunkKey = LongIntCountMap.pack(ownedX, ownedZ);
+                    pass.pendingTasks(pass.pendingChunks, worldName).add(chunkKey);
+                    if (!world.isChunkLoaded(ownedX, ownedZ)) {
+                        if (pass.claim(pass.pendingChunks, worldName, chunkKey)) {
+                            pass.pending.decrementAndGet();
+                        }
+                        continue;
+                    }
+                    scheduler.runAtChunk(world, ownedX, ownedZ, () -> scanChunk(pass, world, worldName, ownedX, ownedZ));
+                    continue;
+                }
+                partial.addChunk(worldName, world.getChunkAt(chunkX, chunkZ));
+            }
+        }
+        completePartial(pass, partial);
+    }
+
+    private void scanChunk(ScanPass pass, World world, String worldName, int chunkX, int chunkZ) {
+        if (!pass.claim(pass.pendingChunks, worldName, LongIntCountMap.pack(chunkX, chunkZ))) {
+            return;
+        }
+        if (activePass.get() != pass) {
+            return;
+        }
+        BaselineAccumulator partial = pass.result.newPartial();
+        if (world.isChunkLoaded(chunkX, chunkZ)) {
+            partial.addChunk(worldName, world.getChunkAt(chunkX, chunkZ));
+        }
+        completePartial(pass, partial);
+    }
+
+    private void completePartial(ScanPass pass, BaselineAccumulator partial) {
+        if (partial != null) {
+            synchronized (pass.result) {
+                pass.result.merge(partial);
+            }
+        }
+        if (pass.pending.decrementAndGet() != 0) {
+            return;
+        }
+        if (activePass.compareAndSet(pass, null)) {
+            synchronized (pass.result) {
+                state.applyBaseline(pass.result);
+            }
+        }
+    }
+
+    private static boolean isSectionLoaded(LongIntCountMap sections, long key) {
+        synchronized (sections) {
+            return sections.get(key) > 0;
+        }
+    }
+
+    private void trackChunk(String worldName, int chunkX, int chunkZ, boolean loaded) {
+        if (worldName == null || worldName.isBlank()) {
+            return;
+        }
+        long key = LongIntCountMap.pack(chunkX >> SECTION_SHIFT, chunkZ >> SECTION_SHIFT);
+        LongIntCountMap sections = loadedSections.get(worldName);
+        if (sections == null) {
+            if (!loaded) {
+                return;
+            }
+            sections = loadedSections.computeIfAbsent(worldName, ignored -> new LongIntCountMap());
+        }
+        boolean sectionUnloaded;
+        synchronized (sections) {
+            if (loaded) {
+                sections.increment(key);
+                return;
+            }
+            sectionUnloaded = sections.decrement(key) == 1;
+        }
+        ScanPass pass = activePass.get();
+        if (pass == null) {
+            return;
+        }
+        // Tasks for chunks that are gone never run, so the unload settles them.
+        if (pass.claim(pass.pendingChunks, worldName, LongIntCountMap.pack(chunkX, chunkZ))) {
+            completePartial(pass, null);
+        }
+        if (sectionUnloaded && pass.claim(pass.pendingSections, worldName, key)) {
+            completePartial(pass, null);
+        }
+    }
+
+    private static final class ScanPass {
+        private final BaselineAccumulator result;
+        private final long startedMillis;
+        private final AtomicInteger pending;
+        private final Map<String, Set<Long>> pendingSections;
+        private final Map<String, Set<Long>> pendingChunks;
+
+        private ScanPass(BaselineAccumulator result, long startedMillis) {
+            this.result = result;
+            this.startedMillis = startedMillis;
+            this.pending = new AtomicInteger(1);
+            this.pendingSections = new ConcurrentHashMap<>();
+            this.pendingChunks = new ConcurrentHashMap<>();
+        }
+
+        private Set<Long> pendingTasks(Map<String, Set<Long>> tasks, String worldName) {
+            return tasks.computeIfAbsent(worldName, ignored -> ConcurrentHashMap.newKeySet());
+        }
+
+        /**
+         * Claims a scheduled task so that either the task or an unload event settles it, never both.
+         */
+        private boolean claim(Map<String, Set<Long>> tasks, String worldName, long key) {
+            Set<Long> pendingKeys = tasks.get(worldName);
+            return pendingKeys != null && pendingKeys.remove(key);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.themeinerlp.minecraftotel.paper.scan;
+
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import dev.themeinerlp.minecraftotel.paper.state.BaselineAccumulator;
+import dev.themeinerlp.minecraftotel.paper.state.TelemetryState;
+import java.util.List;
+import org.bukkit.Chunk;
+import org.bukkit.Server;
+import org.bukkit.World;
+
+/**
+ * Baseline scanner that spreads a pass over several ticks.
+ *
+ * <p>Every tick the scanner processes loaded chunks until its nanosecond budget is used up and
+ * counts them into a partial accumulator. When the last chunk of the last world has been
+ * processed, the result replaces the gauges in one step. Listener deltas for chunks that were
+ * already counted are added to the accumulator while the pass runs, and chunks that load during
+ * the pass are counted by their load event, so the result is current when it is applied. Chunks
+ * that unload before the scan reaches them are skipped.
+ */
+public final class TimeSlicedBaselineScanner implements BaselineScanner {
+    private final Server server;
+    private final TelemetryScheduler scheduler;
+    private final TelemetryState state;
+    private final long budgetNanos;
+    private ScanPass pass;
+
+    /**
+     * Creates a time-sliced baseline scanner.
+     *
+     * @param server Bukkit server
+     * @param scheduler scheduler running the per-tick slices
+     * @param state telemetry state receiving the baselines
+     * @param budgetNanos server-thread time per tick in nanoseconds
+     */
+    public TimeSlicedBaselineScanner(
+            Server server,
+            TelemetryScheduler scheduler,
+            TelemetryState state,
+            long budgetNanos
+    ) {
+        this.server = server;
+        this.scheduler = scheduler;
+        this.state = state;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Schedules the per-tick slice task.
+     */
+    public void start() {
+        scheduler.runRepeating(this::tick, 1L, 1L);
+    }
+
+    @Override
+    public void requestScan(boolean includeEntityTotals, boolean includeChunks) {
+        if (pass != null) {
+            return;
+        }
+        BaselineAccumulator result = state.newBaselineAccumulator(includeEntityTotals, includeChunks);
+        List<World> worlds = server.getWorlds();
+        for (World world : worlds) {
+            result.addWorld(world.getName());
+        }
+        pass = new ScanPass(result, worlds);
+    }
+
+    @Override
+    public void stop() {
+        ScanPass current = pass;
+        pass = null;
+        if (current != null) {
+            state.discardBaseline(current.result);
+        }
+    }
+
+    private void tick() {
+        ScanPass current = pass;
+        if (current == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        while (current.worldIndex < current.worlds.size()) {
+            World world = current.worlds.get(current.worldIndex);
+            if (current.chunks == null) {
+                current.chunks = world.getLoadedChunks();
+                current.chunkIndex = 0;
+            }
+            String worldName = world.getName();
+            while (current.chunkIndex < current.chunks.length) {
+                if (System.nanoTime() - deadline > 0L) {
+                    return;
+                }
+                Chunk chunk = current.chunks[current.chunkIndex++];
+                if (chunk.isLoaded()) {
+                    current.result.addChunk(worldName, chunk);
+                }
+            }
+            current.chunks = null;
+            current.worldIndex++;
+        }
+        pass = null;
+        state.applyBaseline(current.result);
+    }
+
+    private static final class ScanPass {
+        private final BaselineAccumulator result;
+        private final List<World> worlds;
+        private int worldIndex;
+        private Chunk[] chunks;
+        private int chunkIndex;
+
+        private ScanPass(BaselineAccumulator result, List<World> worlds) {
+            this.result = result;
+            this.worlds = worlds;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.themeinerlp.minecraftotel.paper.scheduler;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Scheduler backed by the single-threaded Bukkit scheduler.
+ */
+public final class BukkitTelemetryScheduler implements TelemetryScheduler {
+    private final JavaPlugin plugin;
+
+    /**
+     * Creates a Bukkit scheduler adapter.
+     *
+     * @param plugin owning plugin
+     */
+    public BukkitTelemetryScheduler(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public void runRepeating(Runnable task, long initialDelayTicks, long periodTicks) {
+        plugin.getServer().getScheduler().runTaskTimer(plugin, task, initialDelayTicks, periodTicks);
+    }
+
+    @Override
+    public void runOnce(Runnable task) {
+        plugin.getServer().getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        if (plugin.getServer().isPrimaryThread()) {
+            if (entity.isValid()) {
+                task.run();
+            }
+            return;
+        }
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        });
+    }
+
+    @Override
+    public void runAtChunk(World world, int chunkX, int chunkZ, Runnable task) {
+        plugin.getServer().getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void cancelAll() {
+        plugin.getServer().getScheduler().cancelTasks(plugin);
+    }
+}
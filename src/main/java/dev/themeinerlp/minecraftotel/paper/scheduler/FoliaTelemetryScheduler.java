@@ -0,0 +1,73 @@
+package dev.themeinerlp.minecraftotel.paper.scheduler;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Scheduler backed by the Folia global and region schedulers.
+ */
+public final class FoliaTelemetryScheduler implements TelemetryScheduler {
+    private static final String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+
+    private final JavaPlugin plugin;
+
+    /**
+     * Creates a Folia scheduler adapter.
+     *
+     * @param plugin owning plugin
+     */
+    public FoliaTelemetryScheduler(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Returns whether the server runs Folia's regionized ticking.
+     *
+     * @return true on Folia
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException ignored) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    @Override
+    public void runRepeating(Runnable task, long initialDelayTicks, long periodTicks) {
+        plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+                plugin,
+                scheduledTask -> task.run(),
+                Math.max(1L, initialDelayTicks),
+                Math.max(1L, periodTicks)
+        );
+    }
+
+    @Override
+    public void runOnce(Runnable task) {
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        entity.getScheduler().run(plugin, scheduledTask -> task.run(), null);
+    }
+
+    @Override
+    public void runAtChunk(World world, int chunkX, int chunkZ, Runnable task) {
+        plugin.getServer().getRegionScheduler().execute(plugin, world, chunkX, chunkZ, task);
+    }
+
+    @Override
+    public void cancelAll() {
+        plugin.getServer().getGlobalRegionScheduler().cancelTasks(plugin);
+        plugin.getServer().getAsyncScheduler().cancelTasks(plugin);
+    }
+}
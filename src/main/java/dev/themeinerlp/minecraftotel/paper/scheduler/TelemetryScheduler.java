@@ -0,0 +1,71 @@
+package dev.themeinerlp.minecraftotel.paper.scheduler;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Schedules telemetry work on the Bukkit scheduler or the Folia region schedulers.
+ */
+public interface TelemetryScheduler {
+    /**
+     * Returns whether the server ticks regions on separate threads (Folia).
+     *
+     * @return true for regionized servers
+     */
+    boolean isRegionized();
+
+    /**
+     * Runs a repeating task on the main thread, or on the global region thread for Folia.
+     *
+     * @param task task to run
+     * @param initialDelayTicks delay before the first run in ticks
+     * @param periodTicks period between runs in ticks
+     */
+    void runRepeating(Runnable task, long initialDelayTicks, long periodTicks);
+
+    /**
+     * Runs a task once on the next tick of the main thread, or of the global region thread for
+     * Folia.
+     *
+     * @param task task to run
+     */
+    void runOnce(Runnable task);
+
+    /**
+     * Runs a task on the thread that owns the given entity. The task is dropped if the entity is
+     * removed before it runs.
+     *
+     * @param entity entity the task works with
+     * @param task task to run
+     */
+    void runForEntity(Entity entity, Runnable task);
+
+    /**
+     * Runs a task on the thread that owns the given chunk.
+     *
+     * @param world world of the chunk
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @param task task to run
+     */
+    void runAtChunk(World world, int chunkX, int chunkZ, Runnable task);
+
+    /**
+     * Cancels all tasks scheduled by the plugin.
+     */
+    void cancelAll();
+
+    /**
+     * Creates the scheduler matching the running server.
+     *
+     * @param plugin owning plugin
+     * @return scheduler implementation
+     */
+    static TelemetryScheduler create(JavaPlugin plugin) {
+        if (FoliaTelemetryScheduler.isSupported()) {
+            return new FoliaTelemetryScheduler(plugin);
+        }
+        return new BukkitTelemetryScheduler(plugin);
+    }
+}
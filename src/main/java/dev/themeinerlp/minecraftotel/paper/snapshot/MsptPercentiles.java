@@ -0,0 +1,46 @@
+package dev.themeinerlp.minecraftotel.paper.snapshot;
+
+/**
+ * MSPT distribution over the recent tick window in milliseconds.
+ */
+public final class MsptPercentiles {
+    private final double p50;
+    private final double p90;
+    private final double p95;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    public MsptPercentiles(double p50, double p90, double p95, double p99, double p999, double max) {
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    public double p50() {
+        return p50;
+    }
+
+    public double p90() {
+        return p90;
+    }
+
+    public double p95() {
+        return p95;
+    }
+
+    public double p99() {
+        return p99;
+    }
+
+    public double p999() {
+        return p999;
+    }
+
+    public double max() {
+        return max;
+    }
+}
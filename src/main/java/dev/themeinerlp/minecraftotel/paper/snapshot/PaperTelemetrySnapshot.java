@@ -1,5 +1,6 @@
 package dev.themeinerlp.minecraftotel.paper.snapshot;
 
+import dev.themeinerlp.minecraftotel.api.snapshot.PersistentMap;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
 import java.util.Arrays;
 import java.util.Map;
@@ -18,6 +19,7 @@ public final class PaperTelemetrySnapshot implements TelemetrySnapshot {
     private final double[] tpsNullable;
     private final Double msptAvgNullable;
     private final Double msptP95Nullable;
+    private final MsptPercentiles msptPercentilesNullable;
 
     public PaperTelemetrySnapshot(
             long playersOnline,
@@ -28,17 +30,44 @@ public final class PaperTelemetrySnapshot implements TelemetrySnapshot {
             long exclusiveChunksLoaded,
             double[] tpsNullable,
             Double msptAvgNullable,
-            Double msptP95Nullable
+            Double msptP95Nullable,
+            MsptPercentiles msptPercentilesNullable
     ) {
         this.playersOnline = playersOnline;
-        this.entitiesLoadedByWorld = entitiesLoadedByWorld == null ? null : Map.copyOf(entitiesLoadedByWorld);
-        this.entitiesLoadedByType = entitiesLoadedByType == null ? null : Map.copyOf(entitiesLoadedByType);
-        this.entitiesLoadedByTypeAndChunk = entitiesLoadedByTypeAndChunk == null ? null : Map.copyOf(entitiesLoadedByTypeAndChunk);
-        this.chunksLoadedByWorld = chunksLoadedByWorld == null ? Map.of() : Map.copyOf(chunksLoadedByWorld);
+        this.entitiesLoadedByWorld = entitiesLoadedByWorld == null ? null : immutable(entitiesLoadedByWorld);
+        this.entitiesLoadedByType = entitiesLoadedByType == null ? null : immutable(entitiesLoadedByType);
+        this.entitiesLoadedByTypeAndChunk = entitiesLoadedByTypeAndChunk == null ? null : immutable(entitiesLoadedByTypeAndChunk);
+        this.chunksLoadedByWorld = chunksLoadedByWorld == null ? Map.of() : immutable(chunksLoadedByWorld);
         this.exclusiveChunksLoaded = Math.max(0L, exclusiveChunksLoaded);
         this.tpsNullable = tpsNullable == null ? null : Arrays.copyOf(tpsNullable, tpsNullable.length);
         this.msptAvgNullable = msptAvgNullable;
         this.msptP95Nullable = msptP95Nullable;
+        this.msptPercentilesNullable = msptPercentilesNullable;
+    }
+
+    public PaperTelemetrySnapshot(
+            long playersOnline,
+            Map<String, Long> entitiesLoadedByWorld,
+            Map<String, Long> entitiesLoadedByType,
+            Map<ChunkEntityKey, Long> entitiesLoadedByTypeAndChunk,
+            Map<String, Long> chunksLoadedByWorld,
+            long exclusiveChunksLoaded,
+            double[] tpsNullable,
+            Double msptAvgNullable,
+            Double msptP95Nullable
+    ) {
+        this(
+                playersOnline,
+                entitiesLoadedByWorld,
+                entitiesLoadedByType,
+                entitiesLoadedByTypeAndChunk,
+                chunksLoadedByWorld,
+                exclusiveChunksLoaded,
+                tpsNullable,
+                msptAvgNullable,
+                msptP95Nullable,
+                null
+        );
     }
 
     public PaperTelemetrySnapshot(
@@ -58,7 +87,7 @@ public final class PaperTelemetrySnapshot implements TelemetrySnapshot {
      * @return empty snapshot
      */
     public static PaperTelemetrySnapshot empty() {
-        return new PaperTelemetrySnapshot(0L, null, null, null, Map.of(), 0L, null, null, null);
+        return new PaperTelemetrySnapshot(0L, null, null, null, Map.of(), 0L, null, null, null, null);
     }
 
     /**
@@ -142,6 +171,35 @@ public final class PaperTelemetrySnapshot implements TelemetrySnapshot {
         return msptP95Nullable;
     }
 
+    /**
+     * Returns the MSPT distribution over the recent tick window when available.
+     *
+     * @return MSPT percentiles
+     */
+    public Optional<MsptPercentiles> msptPercentiles() {
+        return Optional.ofNullable(msptPercentilesNullable);
+    }
+
+    /**
+     * Returns the changes of the keyed maps since a previous Paper snapshot.
+     *
+     * @param previous previous snapshot
+     * @return diff, or empty when the previous snapshot is not a Paper snapshot
+     */
+    @Override
+    public Optional<PaperTelemetrySnapshotDiff> diff(TelemetrySnapshot previous) {
+        if (!(previous instanceof PaperTelemetrySnapshot paperPrevious)) {
+            return Optional.empty();
+        }
+        return Optional.of(new PaperTelemetrySnapshotDiff(paperPrevious, this));
+    }
+
+    // Persistent maps published by TelemetryState are immutable and shared as-is; Map.copyOf
+    // likewise returns maps from Map.of unchanged.
+    private static <K> Map<K, Long> immutable(Map<K, Long> map) {
+        return map instanceof PersistentMap<K, Long> ? map : Map.copyOf(map);
+    }
+
     /**
      * Key describing an entity type count for a specific chunk.
      */
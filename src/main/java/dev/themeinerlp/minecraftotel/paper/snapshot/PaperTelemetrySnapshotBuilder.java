@@ -7,6 +7,17 @@ import java.util.Map;
  * Builder for Paper telemetry snapshots.
  */
 public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBuilder {
+    private static final int PLAYERS_ONLINE = 1 << 0;
+    private static final int ENTITIES_BY_WORLD = 1 << 1;
+    private static final int ENTITIES_BY_TYPE = 1 << 2;
+    private static final int ENTITIES_BY_TYPE_AND_CHUNK = 1 << 3;
+    private static final int CHUNKS_BY_WORLD = 1 << 4;
+    private static final int EXCLUSIVE_CHUNKS = 1 << 5;
+    private static final int TPS = 1 << 6;
+    private static final int MSPT_AVG = 1 << 7;
+    private static final int MSPT_P95 = 1 << 8;
+    private static final int MSPT_PERCENTILES = 1 << 9;
+
     private Long playersOnline;
     private Map<String, Long> entitiesLoadedByWorld;
     private Map<String, Long> entitiesLoadedByType;
@@ -16,6 +27,8 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
     private double[] tpsNullable;
     private Double msptAvgNullable;
     private Double msptP95Nullable;
+    private MsptPercentiles msptPercentilesNullable;
+    private int assigned;
 
     /**
      * Sets the online player count.
@@ -25,6 +38,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setPlayersOnline(long playersOnline) {
         this.playersOnline = playersOnline;
+        assigned |= PLAYERS_ONLINE;
         return this;
     }
 
@@ -36,6 +50,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setEntitiesLoadedByWorld(Map<String, Long> entitiesLoadedByWorld) {
         this.entitiesLoadedByWorld = entitiesLoadedByWorld;
+        assigned |= ENTITIES_BY_WORLD;
         return this;
     }
 
@@ -47,6 +62,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setEntitiesLoadedByType(Map<String, Long> entitiesLoadedByType) {
         this.entitiesLoadedByType = entitiesLoadedByType;
+        assigned |= ENTITIES_BY_TYPE;
         return this;
     }
 
@@ -60,6 +76,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
             Map<PaperTelemetrySnapshot.ChunkEntityKey, Long> entitiesLoadedByTypeAndChunk
     ) {
         this.entitiesLoadedByTypeAndChunk = entitiesLoadedByTypeAndChunk;
+        assigned |= ENTITIES_BY_TYPE_AND_CHUNK;
         return this;
     }
 
@@ -71,6 +88,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setChunksLoadedByWorld(Map<String, Long> chunksLoadedByWorld) {
         this.chunksLoadedByWorld = chunksLoadedByWorld;
+        assigned |= CHUNKS_BY_WORLD;
         return this;
     }
 
@@ -82,6 +100,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setExclusiveChunksLoaded(long exclusiveChunksLoaded) {
         this.exclusiveChunksLoaded = exclusiveChunksLoaded;
+        assigned |= EXCLUSIVE_CHUNKS;
         return this;
     }
 
@@ -93,6 +112,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setTps(double[] tpsNullable) {
         this.tpsNullable = tpsNullable;
+        assigned |= TPS;
         return this;
     }
 
@@ -104,6 +124,7 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setMsptAvg(Double msptAvgNullable) {
         this.msptAvgNullable = msptAvgNullable;
+        assigned |= MSPT_AVG;
         return this;
     }
 
@@ -115,6 +136,64 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
      */
     public PaperTelemetrySnapshotBuilder setMsptP95(Double msptP95Nullable) {
         this.msptP95Nullable = msptP95Nullable;
+        assigned |= MSPT_P95;
+        return this;
+    }
+
+    /**
+     * Sets the MSPT distribution over the recent tick window.
+     *
+     * @param msptPercentilesNullable MSPT percentiles or null
+     * @return builder
+     */
+    public PaperTelemetrySnapshotBuilder setMsptPercentiles(MsptPercentiles msptPercentilesNullable) {
+        this.msptPercentilesNullable = msptPercentilesNullable;
+        assigned |= MSPT_PERCENTILES;
+        return this;
+    }
+
+    /**
+     * Replaces the values of this builder with every value that was set on another builder.
+     *
+     * <p>Values the other builder never set are kept, values it set explicitly win, including
+     * {@code null}.
+     *
+     * @param overrides builder whose set values take precedence
+     * @return builder
+     */
+    public PaperTelemetrySnapshotBuilder overrideWith(PaperTelemetrySnapshotBuilder overrides) {
+        int set = overrides.assigned;
+        if ((set & PLAYERS_ONLINE) != 0) {
+            playersOnline = overrides.playersOnline;
+        }
+        if ((set & ENTITIES_BY_WORLD) != 0) {
+            entitiesLoadedByWorld = overrides.entitiesLoadedByWorld;
+        }
+        if ((set & ENTITIES_BY_TYPE) != 0) {
+            entitiesLoadedByType = overrides.entitiesLoadedByType;
+        }
+        if ((set & ENTITIES_BY_TYPE_AND_CHUNK) != 0) {
+            entitiesLoadedByTypeAndChunk = overrides.entitiesLoadedByTypeAndChunk;
+        }
+        if ((set & CHUNKS_BY_WORLD) != 0) {
+            chunksLoadedByWorld = overrides.chunksLoadedByWorld;
+        }
+        if ((set & EXCLUSIVE_CHUNKS) != 0) {
+            exclusiveChunksLoaded = overrides.exclusiveChunksLoaded;
+        }
+        if ((set & TPS) != 0) {
+            tpsNullable = overrides.tpsNullable;
+        }
+        if ((set & MSPT_AVG) != 0) {
+            msptAvgNullable = overrides.msptAvgNullable;
+        }
+        if ((set & MSPT_P95) != 0) {
+            msptP95Nullable = overrides.msptP95Nullable;
+        }
+        if ((set & MSPT_PERCENTILES) != 0) {
+            msptPercentilesNullable = overrides.msptPercentilesNullable;
+        }
+        assigned |= set;
         return this;
     }
 
@@ -133,7 +212,8 @@ public final class PaperTelemetrySnapshotBuilder implements TelemetrySnapshotBui
                 exclusiveChunksLoaded == null ? 0L : exclusiveChunksLoaded,
                 tpsNullable,
                 msptAvgNullable,
-                msptP95Nullable
+                msptP95Nullable,
+                msptPercentilesNullable
         );
     }
 }
@@ -0,0 +1,70 @@
+package dev.themeinerlp.minecraftotel.paper.snapshot;
+
+import dev.themeinerlp.minecraftotel.api.snapshot.MapDiff;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotDiff;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+
+/**
+ * Changes of the keyed maps between two Paper snapshots.
+ *
+ * <p>Scalar values such as players online, TPS and MSPT are not diffed; read them from the
+ * current snapshot.
+ */
+public final class PaperTelemetrySnapshotDiff implements TelemetrySnapshotDiff {
+    private final MapDiff<String, Long> entitiesLoadedByWorld;
+    private final MapDiff<String, Long> entitiesLoadedByType;
+    private final MapDiff<ChunkEntityKey, Long> entitiesLoadedByTypeAndChunk;
+    private final MapDiff<String, Long> chunksLoadedByWorld;
+
+    PaperTelemetrySnapshotDiff(PaperTelemetrySnapshot previous, PaperTelemetrySnapshot current) {
+        this.entitiesLoadedByWorld = MapDiff.of(
+                previous.entitiesLoadedByWorld().orElse(null),
+                current.entitiesLoadedByWorld().orElse(null)
+        );
+        this.entitiesLoadedByType = MapDiff.of(
+                previous.entitiesLoadedByType().orElse(null),
+                current.entitiesLoadedByType().orElse(null)
+        );
+        this.entitiesLoadedByTypeAndChunk = MapDiff.of(
+                previous.entitiesLoadedByTypeAndChunk().orElse(null),
+                current.entitiesLoadedByTypeAndChunk().orElse(null)
+        );
+        this.chunksLoadedByWorld = MapDiff.of(previous.chunksLoadedByWorld(), current.chunksLoadedByWorld());
+    }
+
+    /**
+     * Returns changes of entities loaded per world.
+     *
+     * @return entities per world diff
+     */
+    public MapDiff<String, Long> entitiesLoadedByWorld() {
+        return entitiesLoadedByWorld;
+    }
+
+    /**
+     * Returns changes of entities loaded per type.
+     *
+     * @return entities per type diff
+     */
+    public MapDiff<String, Long> entitiesLoadedByType() {
+        return entitiesLoadedByType;
+    }
+
+    /**
+     * Returns changes of entities loaded per type and chunk.
+     *
+     * @return entities per type and chunk diff
+     */
+    public MapDiff<ChunkEntityKey, Long> entitiesLoadedByTypeAndChunk() {
+        return entitiesLoadedByTypeAndChunk;
+    }
+
+    /**
+     * Returns changes of chunks loaded per world.
+     *
+     * @return chunks per world diff
+     */
+    public MapDiff<String, Long> chunksLoadedByWorld() {
+        return chunksLoadedByWorld;
+    }
+}
@@ -0,0 +1,219 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+import dev.themeinerlp.minecraftotel.paper.util.LongIntCountMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+
+/**
+ * Collects baseline counts chunk by chunk so scans can be split into partial passes.
+ *
+ * <p>Partial accumulators can be merged, which lets callers scan regions or tick slices
+ * independently and apply the combined result with {@link TelemetryState#applyBaseline}.
+ *
+ * <p>Every chunk is counted at most once per pass. From the moment a chunk is counted, the state
+ * forwards listener deltas for it to the accumulator, so changes to chunks that were scanned early
+ * in a pass survive when the result is applied. Chunks that load during the pass are counted by
+ * their load event and skipped by the scan. Entity totals per world and type are only rescanned
+ * while no entity events are delivered, so they receive no deltas. All methods synchronize on the
+ * accumulator; partials share the set of counted chunks with the accumulator they were created
+ * from.
+ */
+public final class BaselineAccumulator {
+    private final TelemetryState state;
+    private final BaselineAccumulator root;
+    private final Map<String, LongIntCountMap> countedChunks;
+    private final boolean includeEntityTotals;
+    private final boolean includeEntityTypesByChunk;
+    private final boolean includeChunks;
+    private final Map<String, Long> entitiesByWorld;
+    private final long[] entityTypeCounts;
+    private final Map<ChunkEntityKey, Long> entitiesByTypeAndChunk;
+    private final Map<String, Long> chunksByWorld;
+    private boolean applied;
+
+    BaselineAccumulator(
+            TelemetryState state,
+            boolean includeEntityTotals,
+            boolean includeEntityTypesByChunk,
+            boolean includeChunks
+    ) {
+        this(state, null, includeEntityTotals, includeEntityTypesByChunk, includeChunks);
+    }
+
+    private BaselineAccumulator(
+            TelemetryState state,
+            BaselineAccumulator root,
+            boolean includeEntityTotals,
+            boolean includeEntityTypesByChunk,
+            boolean includeChunks
+    ) {
+        this.state = state;
+        this.root = root == null ? this : root;
+        this.countedChunks = root == null ? new HashMap<>() : null;
+        this.includeEntityTotals = includeEntityTotals;
+        this.includeEntityTypesByChunk = includeEntityTypesByChunk;
+        this.includeChunks = includeChunks;
+        this.entitiesByWorld = new HashMap<>();
+        this.entityTypeCounts = includeEntityTotals ? state.newEntityTypeBaseline() : null;
+        this.entitiesByTypeAndChunk = new HashMap<>();
+        this.chunksByWorld = new HashMap<>();
+    }
+
+    /**
+     * Registers a world so it reports zero when none of its chunks are scanned.
+     *
+     * @param worldName world name
+     */
+    public synchronized void addWorld(String worldName) {
+        if (worldName == null || worldName.isBlank()) {
+            return;
+        }
+        chunksByWorld.putIfAbsent(worldName, 0L);
+        if (includeEntityTotals) {
+            entitiesByWorld.putIfAbsent(worldName, 0L);
+        }
+    }
+
+    /**
+     * Counts a loaded chunk and, when requested, the entities inside it. Chunks that were already
+     * counted in this pass are skipped.
+     *
+     * @param worldName world name of the chunk
+     * @param chunk loaded chunk
+     */
+    public synchronized void addChunk(String worldName, Chunk chunk) {
+        if (worldName == null || worldName.isBlank()) {
+            return;
+        }
+        if (!root.markCounted(worldName, chunk.getX(), chunk.getZ())) {
+            return;
+        }
+        chunksByWorld.merge(worldName, 1L, Long::sum);
+        if (!includeEntityTotals && !includeEntityTypesByChunk) {
+            return;
+        }
+        Entity[] entities = chunk.getEntities();
+        if (includeEntityTotals) {
+            entitiesByWorld.merge(worldName, (long) entities.length, Long::sum);
+        }
+        for (Entity entity : entities) {
+            if (includeEntityTotals) {
+                entityTypeCounts[entity.getType().ordinal()]++;
+            }
+            if (includeEntityTypesByChunk) {
+                String typeKey = state.resolveChunkEntityTypeKey(entity);
+                if (typeKey == null) {
+                    continue;
+                }
+                ChunkEntityKey key = new ChunkEntityKey(worldName, chunk.getX(), chunk.getZ(), typeKey);
+                entitiesByTypeAndChunk.merge(key, 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Adds all counts of another accumulator to this one.
+     *
+     * @param other partial accumulator
+     */
+    public synchronized void merge(BaselineAccumulator other) {
+        for (Map.Entry<String, Long> entry : other.chunksByWorld.entrySet()) {
+            chunksByWorld.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : other.entitiesByWorld.entrySet()) {
+            entitiesByWorld.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        if (entityTypeCounts != null && other.entityTypeCounts != null) {
+            for (int i = 0; i < entityTypeCounts.length; i++) {
+                entityTypeCounts[i] += other.entityTypeCounts[i];
+            }
+        }
+        for (Map.Entry<ChunkEntityKey, Long> entry : other.entitiesByTypeAndChunk.entrySet()) {
+            entitiesByTypeAndChunk.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+    }
+
+    /**
+     * Returns a fresh accumulator with the same scan options.
+     *
+     * @return empty accumulator
+     */
+    public BaselineAccumulator newPartial() {
+        return new BaselineAccumulator(state, root, includeEntityTotals, includeEntityTypesByChunk, includeChunks);
+    }
+
+    /**
+     * Records a chunk load seen by the listeners while the pass is running.
+     *
+     * <p>A chunk that was not counted yet is counted now, including its entities, and the scan
+     * skips it later. A chunk that was counted already only adds one to its world.
+     */
+    synchronized void recordChunkLoad(String worldName, Chunk chunk) {
+        if (applied) {
+            return;
+        }
+        if (isCounted(worldName, chunk.getX(), chunk.getZ())) {
+            chunksByWorld.merge(worldName, 1L, Long::sum);
+        } else {
+            addChunk(worldName, chunk);
+        }
+    }
+
+    /**
+     * Records a chunk unload seen by the listeners while the pass is running.
+     */
+    synchronized void recordChunkUnload(String worldName, int chunkX, int chunkZ) {
+        if (!applied && isCounted(worldName, chunkX, chunkZ)) {
+            chunksByWorld.merge(worldName, -1L, Long::sum);
+        }
+    }
+
+    /**
+     * Records an entity type per chunk delta seen by the listeners while the pass is running.
+     */
+    synchronized void recordEntityTypeInChunk(ChunkEntityKey key, long delta) {
+        if (!applied && includeEntityTypesByChunk && isCounted(key.worldName(), key.chunkX(), key.chunkZ())) {
+            entitiesByTypeAndChunk.merge(key, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Marks the accumulator as applied; later deltas go to the gauges only.
+     */
+    synchronized void markApplied() {
+        applied = true;
+    }
+
+    private boolean isCounted(String worldName, int chunkX, int chunkZ) {
+        synchronized (root) {
+            LongIntCountMap counted = root.countedChunks.get(worldName);
+            return counted != null && counted.get(LongIntCountMap.pack(chunkX, chunkZ)) > 0;
+        }
+    }
+
+    private boolean markCounted(String worldName, int chunkX, int chunkZ) {
+        synchronized (root) {
+            LongIntCountMap counted = root.countedChunks.computeIfAbsent(worldName, ignored -> new LongIntCountMap());
+            return counted.increment(LongIntCountMap.pack(chunkX, chunkZ)) == 0;
+        }
+    }
+
+    Map<String, Long> entitiesByWorldOrNull() {
+        return includeEntityTotals ? entitiesByWorld : null;
+    }
+
+    long[] entityTypeCountsOrNull() {
+        return entityTypeCounts;
+    }
+
+    Map<ChunkEntityKey, Long> entitiesByTypeAndChunkOrNull() {
+        return includeEntityTypesByChunk ? entitiesByTypeAndChunk : null;
+    }
+
+    Map<String, Long> chunksByWorldOrNull() {
+        return includeChunks ? chunksByWorld : null;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.paper.util.LongIntCountMap;
+
+/**
+ * Player viewer counts per chunk for a single world.
+ *
+ * <p>Keys are chunk coordinates packed with {@link LongIntCountMap#pack(int, int)}, so updates
+ * neither allocate a key object nor box the count.
+ */
+final class ChunkViewerCounts {
+    private final LongIntCountMap viewers;
+    private long exclusiveChunks;
+
+    ChunkViewerCounts() {
+        this.viewers = new LongIntCountMap();
+    }
+
+    /**
+     * Records one additional viewer for a chunk.
+     *
+     * @param key packed chunk key
+     */
+    synchronized void increment(long key) {
+        int previous = viewers.increment(key);
+        if (previous == 0) {
+            exclusiveChunks++;
+        } else if (previous == 1) {
+            exclusiveChunks = Math.max(0L, exclusiveChunks - 1L);
+        }
+    }
+
+    /**
+     * Records one viewer less for a chunk.
+     *
+     * @param key packed chunk key
+     */
+    synchronized void decrement(long key) {
+        int previous = viewers.decrement(key);
+        if (previous == 1) {
+            exclusiveChunks = Math.max(0L, exclusiveChunks - 1L);
+        } else if (previous == 2) {
+            exclusiveChunks++;
+        }
+    }
+
+    /**
+     * Returns the number of chunks visible to exactly one player.
+     *
+     * @return exclusive chunk count
+     */
+    synchronized long exclusiveChunks() {
+        return exclusiveChunks;
+    }
+
+    /**
+     * Returns the number of chunks with at least one viewer.
+     *
+     * @return tracked chunk count
+     */
+    synchronized int size() {
+        return viewers.size();
+    }
+}
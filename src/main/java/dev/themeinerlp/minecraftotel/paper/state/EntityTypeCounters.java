@@ -0,0 +1,154 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.api.snapshot.PersistentMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.EntityType;
+
+/**
+ * Entity type gauge indexed by {@link EntityType} ordinal.
+ *
+ * <p>Namespaced type keys are resolved once when the index is built, so entity events only
+ * touch a {@link LongAdder} cell and the string keys are materialized when a snapshot is taken.
+ */
+final class EntityTypeCounters {
+    private final EntityType[] types;
+    private final String[] keys;
+    private volatile Cells cells;
+    private PersistentMap<String, Long> published = PersistentMap.empty();
+
+    EntityTypeCounters() {
+        this.types = EntityType.values();
+        this.keys = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            keys[i] = resolveKey(types[i]);
+        }
+        this.cells = new Cells(types.length);
+    }
+
+    /**
+     * Returns the number of indexed entity types.
+     *
+     * @return type count
+     */
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the interned namespaced key for the given type.
+     *
+     * @param type entity type
+     * @return namespaced key or null when the type has no key
+     */
+    String key(EntityType type) {
+        if (type == null) {
+            return null;
+        }
+        return keys[type.ordinal()];
+    }
+
+    /**
+     * Adds a delta to the counter of the given type.
+     *
+     * @param type entity type
+     * @param delta delta to add
+     */
+    void add(EntityType type, long delta) {
+        if (type == null) {
+            return;
+        }
+        int index = type.ordinal();
+        if (keys[index] == null) {
+            return;
+        }
+        Cells current = cells;
+        while (true) {
+            if (!current.tracked[index]) {
+                current.tracked[index] = true;
+            }
+            current.counts[index].add(delta);
+            Cells latest = cells;
+            if (latest == current) {
+                return;
+            }
+            // replace() swapped the cells while the delta was added, so add it to the new ones as well.
+            current = latest;
+        }
+    }
+
+    /**
+     * Returns an immutable view of all tracked types keyed by namespaced key, clamped to zero.
+     *
+     * @return counts by type key
+     */
+    synchronized Map<String, Long> snapshot() {
+        Cells current = cells;
+        PersistentMap<String, Long> snapshot = published;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            // with/without return the same map when nothing changed, so an idle snapshot allocates nothing.
+            snapshot = current.tracked[i]
+                    ? snapshot.with(keys[i], Math.max(0L, current.counts[i].sum()))
+                    : snapshot.without(keys[i]);
+        }
+        published = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Replaces all counters with baseline counts indexed by type ordinal.
+     *
+     * @param baseline counts by ordinal, shorter arrays reset the remaining types
+     */
+    void replace(long[] baseline) {
+        Cells next = new Cells(types.length);
+        int limit = Math.min(baseline.length, types.length);
+        for (int i = 0; i < limit; i++) {
+            long value = Math.max(0L, baseline[i]);
+            if (value > 0L && keys[i] != null) {
+                next.counts[i].add(value);
+                next.tracked[i] = true;
+            }
+        }
+        cells = next;
+    }
+
+    /**
+     * Returns a new zeroed baseline array sized for all entity types.
+     *
+     * @return empty baseline
+     */
+    long[] newBaseline() {
+        return new long[types.length];
+    }
+
+    private static String resolveKey(EntityType type) {
+        try {
+            NamespacedKey key = type.getKey();
+            if (key == null) {
+                return null;
+            }
+            String value = key.toString();
+            return value.isBlank() ? null : value.intern();
+        } catch (IllegalArgumentException | UnsupportedOperationException ignored) {
+            return null;
+        }
+    }
+
+    private static final class Cells {
+        private final LongAdder[] counts;
+        private final boolean[] tracked;
+
+        private Cells(int size) {
+            this.counts = new LongAdder[size];
+            this.tracked = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.themeinerlp.minecraftotel.paper.state;
+
+import dev.themeinerlp.minecraftotel.api.snapshot.PersistentMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keyed gauge counters backed by one {@link LongAdder} cell per key.
+ *
+ * <p>Deltas from concurrent threads (for example Folia region threads) only contend on the
+ * cell of the key they update, never on a shared monitor. Baseline replacement swaps the whole
+ * cell table at once; a delta that races with the swap is added again to the new table, so it is
+ * never lost with the discarded one.
+ *
+ * <p>Snapshots are versions of a {@link PersistentMap}. A cell queues itself once when it
+ * changes, and taking a snapshot only folds the queued cells into the previous version, so the
+ * cost is proportional to the keys changed since the last snapshot rather than to all keys.
+ *
+ * @param <K> key type
+ */
+final class GaugeCounters<K> {
+    private volatile Table<K> table;
+
+    GaugeCounters() {
+        this.table = new Table<>(PersistentMap.empty());
+    }
+
+    /**
+     * Adds a delta to the counter of the given key.
+     *
+     * @param key counter key
+     * @param delta delta to add
+     */
+    void add(K key, long delta) {
+        if (key == null) {
+            return;
+        }
+        Table<K> current = table;
+        while (true) {
+            Cell<K> cell = current.cells.get(key);
+            if (cell == null) {
+                cell = current.cells.computeIfAbsent(key, Cell::new);
+            }
+            cell.add(delta);
+            // The cell is marked after the delta, so a snapshot that clears the mark reads the delta.
+            if (!cell.dirty) {
+                cell.dirty = true;
+                current.dirty.add(cell);
+            }
+            Table<K> latest = table;
+            if (latest == current) {
+                return;
+            }
+            // replace() swapped the table while the delta was added, so the delta went to the discarded one.
+            current = latest;
+        }
+    }
+
+    /**
+     * Returns an immutable view of all counters, clamped to zero.
+     *
+     * @return counter values by key
+     */
+    synchronized Map<K, Long> snapshot() {
+        Table<K> current = table;
+        PersistentMap<K, Long> published = current.published;
+        Cell<K> cell;
+        while ((cell = current.dirty.poll()) != null) {
+            cell.dirty = false;
+            published = published.with(cell.key, Math.max(0L, cell.sum()));
+        }
+        current.published = published;
+        return published;
+    }
+
+    /**
+     * Replaces all counters with the given baseline values.
+     *
+     * @param baseline baseline values by key
+     */
+    synchronized void replace(Map<K, Long> baseline) {
+        PersistentMap<K, Long> published = table.published;
+        Table<K> next = new Table<>(published);
+        for (Map.Entry<K, Long> entry : baseline.entrySet()) {
+            long value = Math.max(0L, entry.getValue());
+            Cell<K> cell = new Cell<>(entry.getKey());
+            cell.add(value);
+            next.cells.put(entry.getKey(), cell);
+            published = published.with(entry.getKey(), value);
+        }
+        // Keys missing from the baseline are dropped; shared subtrees keep unchanged keys cheap.
+        for (K key : table.published.keySet()) {
+            if (!baseline.containsKey(key)) {
+                published = published.without(key);
+            }
+        }
+        next.published = published;
+        table = next;
+    }
+
+    /**
+     * Removes all counters.
+     */
+    synchronized void clear() {
+        table = new Table<>(PersistentMap.empty());
+    }
+
+    private static final class Table<K> {
+        private final ConcurrentHashMap<K, Cell<K>> cells = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<Cell<K>> dirty = new ConcurrentLinkedQueue<>();
+        private PersistentMap<K, Long> published;
+
+        private Table(PersistentMap<K, Long> published) {
+            this.published = published;
+        }
+    }
+
+    private static final class Cell<K> extends LongAdder {
+        private static final long serialVersionUID = 1L;
+
+        private final transient K key;
+        private volatile boolean dirty;
+
+        private Cell(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -5,13 +5,17 @@ import dev.themeinerlp.minecraftotel.api.state.TelemetryStateStore;
 import dev.themeinerlp.minecraftotel.paper.config.EntitiesByChunkMode;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
 import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot.ChunkEntityKey;
+import dev.themeinerlp.minecraftotel.paper.util.LongIntCountMap;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Chunk;
 import org.bukkit.Server;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Enemy;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
@@ -19,24 +23,23 @@ import org.bukkit.entity.Player;
  * Thread-safe state holder for Paper telemetry counters and snapshots.
  */
 public final class TelemetryState implements TelemetryStateStore {
-    private final Map<String, Long> entitiesGaugeByWorld;
-    private final Map<String, Long> entitiesGaugeByType;
-    private final Map<ChunkEntityKey, Long> entitiesGaugeByTypeAndChunk;
-    private final Map<String, Long> chunksGaugeByWorld;
-    private final Map<ChunkKey, Integer> playerChunkViewers;
-    private long exclusivePlayerChunks;
+    private final GaugeCounters<String> entitiesGaugeByWorld;
+    private final EntityTypeCounters entitiesGaugeByType;
+    private final GaugeCounters<ChunkEntityKey> entitiesGaugeByTypeAndChunk;
+    private final GaugeCounters<String> chunksGaugeByWorld;
+    private final Map<String, ChunkViewerCounts> playerChunkViewers;
     private volatile TelemetrySnapshot snapshot;
+    private volatile BaselineAccumulator pendingBaseline;
     private volatile boolean entityEventsAvailable;
     private volatile EntitiesByChunkMode entityTypeChunkMode;
 
     public TelemetryState() {
         this.snapshot = PaperTelemetrySnapshot.empty();
-        this.entitiesGaugeByWorld = new HashMap<>();
-        this.entitiesGaugeByType = new HashMap<>();
-        this.entitiesGaugeByTypeAndChunk = new HashMap<>();
-        this.chunksGaugeByWorld = new HashMap<>();
-        this.playerChunkViewers = new HashMap<>();
-        this.exclusivePlayerChunks = 0L;
+        this.entitiesGaugeByWorld = new GaugeCounters<>();
+        this.entitiesGaugeByType = new EntityTypeCounters();
+        this.entitiesGaugeByTypeAndChunk = new GaugeCounters<>();
+        this.chunksGaugeByWorld = new GaugeCounters<>();
+        this.playerChunkViewers = new ConcurrentHashMap<>();
         this.entityEventsAvailable = false;
         this.entityTypeChunkMode = EntitiesByChunkMode.OFF;
     }
@@ -96,9 +99,7 @@ public final class TelemetryState implements TelemetryStateStore {
     public void setEntityTypeChunkMode(EntitiesByChunkMode mode) {
         entityTypeChunkMode = mode == null ? EntitiesByChunkMode.OFF : mode;
         if (entityTypeChunkMode == EntitiesByChunkMode.OFF) {
-            synchronized (entitiesGaugeByTypeAndChunk) {
-                entitiesGaugeByTypeAndChunk.clear();
-            }
+            entitiesGaugeByTypeAndChunk.clear();
         }
     }
 
@@ -120,7 +121,7 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(entitiesGaugeByWorld, worldName, 1L);
+        entitiesGaugeByWorld.add(worldName, 1L);
     }
 
     /**
@@ -132,31 +133,25 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(entitiesGaugeByWorld, worldName, -1L);
+        entitiesGaugeByWorld.add(worldName, -1L);
     }
 
     /**
-     * Increments the entity type gauge for the given type key.
+     * Increments the entity type gauge for the given type.
      *
-     * @param entityTypeKey namespaced entity type key
+     * @param entityType entity type
      */
-    public void incrementEntityType(String entityTypeKey) {
-        if (entityTypeKey == null || entityTypeKey.isBlank()) {
-            return;
-        }
-        updateGauge(entitiesGaugeByType, entityTypeKey, 1L);
+    public void incrementEntityType(EntityType entityType) {
+        entitiesGaugeByType.add(entityType, 1L);
     }
 
     /**
-     * Decrements the entity type gauge for the given type key.
+     * Decrements the entity type gauge for the given type.
      *
-     * @param entityTypeKey namespaced entity type key
+     * @param entityType entity type
      */
-    public void decrementEntityType(String entityTypeKey) {
-        if (entityTypeKey == null || entityTypeKey.isBlank()) {
-            return;
-        }
-        updateGauge(entitiesGaugeByType, entityTypeKey, -1L);
+    public void decrementEntityType(EntityType entityType) {
+        entitiesGaugeByType.add(entityType, -1L);
     }
 
     /**
@@ -180,11 +175,16 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(
-                entitiesGaugeByTypeAndChunk,
-                new ChunkEntityKey(worldName, chunk.getX(), chunk.getZ(), typeKey),
-                1L
-        );
+        ChunkEntityKey key = new ChunkEntityKey(worldName, chunk.getX(), chunk.getZ(), typeKey);
+        BaselineAccumulator baseline = pendingBaseline;
+        if (baseline != null) {
+            synchronized (baseline) {
+                baseline.recordEntityTypeInChunk(key, 1L);
+                entitiesGaugeByTypeAndChunk.add(key, 1L);
+            }
+            return;
+        }
+        entitiesGaugeByTypeAndChunk.add(key, 1L);
     }
 
     /**
@@ -208,35 +208,58 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(
-                entitiesGaugeByTypeAndChunk,
-                new ChunkEntityKey(worldName, chunk.getX(), chunk.getZ(), typeKey),
-                -1L
-        );
+        ChunkEntityKey key = new ChunkEntityKey(worldName, chunk.getX(), chunk.getZ(), typeKey);
+        BaselineAccumulator baseline = pendingBaseline;
+        if (baseline != null) {
+            synchronized (baseline) {
+                baseline.recordEntityTypeInChunk(key, -1L);
+                entitiesGaugeByTypeAndChunk.add(key, -1L);
+            }
+            return;
+        }
+        entitiesGaugeByTypeAndChunk.add(key, -1L);
     }
 
     /**
-     * Increments the chunk gauge for the given world.
+     * Increments the chunk gauge for the world of the given chunk.
      *
-     * @param worldName world name
+     * @param chunk loaded chunk
      */
-    public void incrementChunk(String worldName) {
+    public void incrementChunk(Chunk chunk) {
+        String worldName = chunk.getWorld().getName();
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(chunksGaugeByWorld, worldName, 1L);
+        BaselineAccumulator baseline = pendingBaseline;
+        if (baseline != null) {
+            synchronized (baseline) {
+                baseline.recordChunkLoad(worldName, chunk);
+                chunksGaugeByWorld.add(worldName, 1L);
+            }
+            return;
+        }
+        chunksGaugeByWorld.add(worldName, 1L);
     }
 
     /**
-     * Decrements the chunk gauge for the given world.
+     * Decrements the chunk gauge for the world of the given chunk.
      *
-     * @param worldName world name
+     * @param chunk unloading chunk
      */
-    public void decrementChunk(String worldName) {
+    public void decrementChunk(Chunk chunk) {
+        String worldName = chunk.getWorld().getName();
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        updateGauge(chunksGaugeByWorld, worldName, -1L);
+        BaselineAccumulator baseline = pendingBaseline;
+        if (baseline != null) {
+            synchronized (baseline) {
+                baseline.recordChunkUnload(worldName, chunk.getX(), chunk.getZ());
+                chunksGaugeByWorld.add(worldName, -1L);
+            }
+            return;
+        }
+        chunksGaugeByWorld.add(worldName, -1L);
     }
 
     /**
@@ -250,17 +273,7 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        ChunkKey key = new ChunkKey(worldName, chunkX, chunkZ);
-        synchronized (playerChunkViewers) {
-            int current = playerChunkViewers.getOrDefault(key, 0);
-            int next = current + 1;
-            playerChunkViewers.put(key, next);
-            if (current == 0) {
-                exclusivePlayerChunks++;
-            } else if (current == 1) {
-                exclusivePlayerChunks = Math.max(0L, exclusivePlayerChunks - 1L);
-            }
-        }
+        viewersFor(worldName).increment(LongIntCountMap.pack(chunkX, chunkZ));
     }
 
     /**
@@ -274,24 +287,11 @@ public final class TelemetryState implements TelemetryStateStore {
         if (worldName == null || worldName.isBlank()) {
             return;
         }
-        ChunkKey key = new ChunkKey(worldName, chunkX, chunkZ);
-        synchronized (playerChunkViewers) {
-            Integer currentObj = playerChunkViewers.get(key);
-            if (currentObj == null) {
-                return;
-            }
-            int current = currentObj;
-            if (current <= 1) {
-                playerChunkViewers.remove(key);
-                exclusivePlayerChunks = Math.max(0L, exclusivePlayerChunks - 1L);
-                return;
-            }
-            int next = current - 1;
-            playerChunkViewers.put(key, next);
-            if (current == 2) {
-                exclusivePlayerChunks++;
-            }
+        ChunkViewerCounts viewers = playerChunkViewers.get(worldName);
+        if (viewers == null) {
+            return;
         }
+        viewers.decrement(LongIntCountMap.pack(chunkX, chunkZ));
     }
 
     /**
@@ -300,9 +300,19 @@ public final class TelemetryState implements TelemetryStateStore {
      * @return exclusive player chunk count
      */
     public long getExclusivePlayerChunks() {
-        synchronized (playerChunkViewers) {
-            return exclusivePlayerChunks;
+        long exclusive = 0L;
+        for (ChunkViewerCounts viewers : playerChunkViewers.values()) {
+            exclusive += viewers.exclusiveChunks();
         }
+        return exclusive;
+    }
+
+    private ChunkViewerCounts viewersFor(String worldName) {
+        ChunkViewerCounts viewers = playerChunkViewers.get(worldName);
+        if (viewers != null) {
+            return viewers;
+        }
+        return playerChunkViewers.computeIfAbsent(worldName, ignored -> new ChunkViewerCounts());
     }
 
     /**
@@ -311,14 +321,116 @@ public final class TelemetryState implements TelemetryStateStore {
      * @param server Bukkit server
      */
     public void baselineInit(Server server) {
-        replaceGauge(entitiesGaugeByWorld, scanEntities(server));
-        replaceGauge(entitiesGaugeByType, scanEntitiesByType(server));
+        entitiesGaugeByWorld.replace(scanEntities(server));
+        entitiesGaugeByType.replace(scanEntitiesByType(server));
         if (entityTypeChunkMode != EntitiesByChunkMode.OFF) {
-            replaceGauge(entitiesGaugeByTypeAndChunk, scanEntitiesByTypeAndChunk(server));
+            entitiesGaugeByTypeAndChunk.replace(scanEntitiesByTypeAndChunk(server));
         } else {
-            replaceGauge(entitiesGaugeByTypeAndChunk, Map.of());
+            entitiesGaugeByTypeAndChunk.clear();
+        }
+        chunksGaugeByWorld.replace(scanChunks(server));
+    }
+
+    /**
+     * Creates an accumulator for a chunk-by-chunk baseline scan and routes listener deltas for
+     * counted chunks to it until it is applied or discarded.
+     *
+     * @param includeEntityTotals whether entities per world and per type are counted
+     * @param includeChunks whether loaded chunks per world are counted
+     * @return empty accumulator
+     */
+    public BaselineAccumulator newBaselineAccumulator(boolean includeEntityTotals, boolean includeChunks) {
+        BaselineAccumulator baseline = new BaselineAccumulator(
+                this,
+                includeEntityTotals,
+                entityTypeChunkMode != EntitiesByChunkMode.OFF,
+                includeChunks
+        );
+        pendingBaseline = baseline;
+        return baseline;
+    }
+
+    /**
+     * Stops routing listener deltas to an accumulator whose pass was abandoned.
+     *
+     * @param baseline abandoned scan
+     */
+    public void discardBaseline(BaselineAccumulator baseline) {
+        synchronized (baseline) {
+            baseline.markApplied();
+            if (pendingBaseline == baseline) {
+                pendingBaseline = null;
+            }
+        }
+    }
+
+    /**
+     * Replaces gauges with the counts of a completed baseline scan.
+     *
+     * <p>Runs under the accumulator's lock, so every listener delta lands either in the
+     * accumulator before the replacement or in the replaced gauges after it.
+     *
+     * @param baseline completed scan
+     */
+    public void applyBaseline(BaselineAccumulator baseline) {
+        synchronized (baseline) {
+            discardBaseline(baseline);
+            replaceGauges(baseline);
+        }
+    }
+
+    private void replaceGauges(BaselineAccumulator baseline) {
+        Map<String, Long> entities = baseline.entitiesByWorldOrNull();
+        if (entities != null) {
+            entitiesGaugeByWorld.replace(entities);
+        }
+        long[] entityTypeCounts = baseline.entityTypeCountsOrNull();
+        if (entityTypeCounts != null) {
+            entitiesGaugeByType.replace(entityTypeCounts);
+        }
+        Map<ChunkEntityKey, Long> entitiesByTypeAndChunk = baseline.entitiesByTypeAndChunkOrNull();
+        if (entitiesByTypeAndChunk != null && entityTypeChunkMode != EntitiesByChunkMode.OFF) {
+            entitiesGaugeByTypeAndChunk.replace(entitiesByTypeAndChunk);
+        }
+        Map<String, Long> chunks = baseline.chunksByWorldOrNull();
+        if (chunks != null) {
+            chunksGaugeByWorld.replace(chunks);
+        }
+    }
+
+    long[] newEntityTypeBaseline() {
+        return entitiesGaugeByType.newBaseline();
+    }
+
+    /**
+     * Replaces gauges with the results of synchronous baseline scans.
+     *
+     * <p>Call this on the thread that ran the scans, so listener deltas that follow the scan are
+     * added on top of the new baseline instead of being overwritten by it.
+     *
+     * @param baselineEntitiesMapOrNull baseline entities map or null to keep the gauge
+     * @param baselineEntityTypeCountsOrNull baseline entity counts by type ordinal or null to keep the gauge
+     * @param baselineEntityTypesByChunkMapOrNull baseline entity types by chunk map or null to keep the gauge
+     * @param baselineChunksMapOrNull baseline chunks map or null to keep the gauge
+     */
+    public void replaceBaselines(
+            Map<String, Long> baselineEntitiesMapOrNull,
+            long[] baselineEntityTypeCountsOrNull,
+            Map<ChunkEntityKey, Long> baselineEntityTypesByChunkMapOrNull,
+            Map<String, Long> baselineChunksMapOrNull
+    ) {
+        if (baselineEntitiesMapOrNull != null) {
+            entitiesGaugeByWorld.replace(baselineEntitiesMapOrNull);
+        }
+        if (baselineEntityTypeCountsOrNull != null) {
+            entitiesGaugeByType.replace(baselineEntityTypeCountsOrNull);
+        }
+        if (baselineEntityTypesByChunkMapOrNull != null && entityTypeChunkMode != EntitiesByChunkMode.OFF) {
+            entitiesGaugeByTypeAndChunk.replace(baselineEntityTypesByChunkMapOrNull);
+        }
+        if (baselineChunksMapOrNull != null) {
+            chunksGaugeByWorld.replace(baselineChunksMapOrNull);
         }
-        replaceGauge(chunksGaugeByWorld, scanChunks(server));
     }
 
     /**
@@ -329,7 +441,7 @@ public final class TelemetryState implements TelemetryStateStore {
      * @param msptAvgNullable average MSPT or null
      * @param msptP95Nullable p95 MSPT or null
      * @param baselineEntitiesMapOrNull baseline entities map or null to reuse gauge
-     * @param baselineEntityTypesMapOrNull baseline entity types map or null to reuse gauge
+     * @param baselineEntityTypeCountsOrNull baseline entity counts by type ordinal or null to reuse gauge
      * @param baselineEntityTypesByChunkMapOrNull baseline entity types by chunk map or null to reuse gauge
      * @param baselineChunksMapOrNull baseline chunks map or null to reuse gauge
      * @return rebuilt snapshot
@@ -340,25 +452,22 @@ public final class TelemetryState implements TelemetryStateStore {
             Double msptAvgNullable,
             Double msptP95Nullable,
             Map<String, Long> baselineEntitiesMapOrNull,
-            Map<String, Long> baselineEntityTypesMapOrNull,
+            long[] baselineEntityTypeCountsOrNull,
             Map<ChunkEntityKey, Long> baselineEntityTypesByChunkMapOrNull,
             Map<String, Long> baselineChunksMapOrNull
     ) {
-        Map<String, Long> entitiesSnapshot = baselineEntitiesMapOrNull != null
-                ? applyBaseline(entitiesGaugeByWorld, baselineEntitiesMapOrNull)
-                : snapshotFromGauge(entitiesGaugeByWorld);
-        Map<String, Long> entitiesByTypeSnapshot = baselineEntityTypesMapOrNull != null
-                ? applyBaseline(entitiesGaugeByType, baselineEntityTypesMapOrNull)
-                : snapshotFromGauge(entitiesGaugeByType);
-        Map<ChunkEntityKey, Long> entitiesByTypeAndChunkSnapshot = null;
-        if (entityTypeChunkMode != EntitiesByChunkMode.OFF) {
-            entitiesByTypeAndChunkSnapshot = baselineEntityTypesByChunkMapOrNull != null
-                    ? applyBaseline(entitiesGaugeByTypeAndChunk, baselineEntityTypesByChunkMapOrNull)
-                    : snapshotFromGauge(entitiesGaugeByTypeAndChunk);
-        }
-        Map<String, Long> chunksSnapshot = baselineChunksMapOrNull != null
-                ? applyBaseline(chunksGaugeByWorld, baselineChunksMapOrNull)
-                : snapshotFromGauge(chunksGaugeByWorld);
+        replaceBaselines(
+                baselineEntitiesMapOrNull,
+                baselineEntityTypeCountsOrNull,
+                baselineEntityTypesByChunkMapOrNull,
+                baselineChunksMapOrNull
+        );
+        Map<String, Long> entitiesSnapshot = entitiesGaugeByWorld.snapshot();
+        Map<String, Long> entitiesByTypeSnapshot = entitiesGaugeByType.snapshot();
+        Map<ChunkEntityKey, Long> entitiesByTypeAndChunkSnapshot = entityTypeChunkMode != EntitiesByChunkMode.OFF
+                ? entitiesGaugeByTypeAndChunk.snapshot()
+                : null;
+        Map<String, Long> chunksSnapshot = chunksGaugeByWorld.snapshot();
         double[] tpsCopy = tpsNullable == null ? null : Arrays.copyOf(tpsNullable, tpsNullable.length);
         return new PaperTelemetrySnapshot(
                 playersOnline,
@@ -391,18 +500,13 @@ public final class TelemetryState implements TelemetryStateStore {
      * Performs a synchronous scan of entities per type.
      *
      * @param server Bukkit server
-     * @return entities per type
+     * @return entity counts indexed by entity type ordinal
      */
-    public Map<String, Long> scanEntitiesByType(Server server) {
-        Map<String, Long> baseline = new HashMap<>();
+    public long[] scanEntitiesByType(Server server) {
+        long[] baseline = entitiesGaugeByType.newBaseline();
         for (World world : server.getWorlds()) {
             for (Entity entity : world.getEntities()) {
-                var typeKeyObj = entity.getType().getKey();
-                String typeKey = typeKeyObj == null ? "" : typeKeyObj.toString();
-                if (typeKey.isBlank()) {
-                    continue;
-                }
-                baseline.merge(typeKey, 1L, Long::sum);
+                baseline[entity.getType().ordinal()]++;
             }
         }
         return baseline;
@@ -437,15 +541,13 @@ public final class TelemetryState implements TelemetryStateStore {
         return baseline;
     }
 
-    private String resolveChunkEntityTypeKey(Entity entity) {
+    String resolveChunkEntityTypeKey(Entity entity) {
         EntitiesByChunkMode mode = entityTypeChunkMode;
         if (mode == EntitiesByChunkMode.OFF) {
             return null;
         }
         if (mode == EntitiesByChunkMode.HEAVY) {
-            var typeKeyObj = entity.getType().getKey();
-            String typeKey = typeKeyObj == null ? "" : typeKeyObj.toString();
-            return typeKey.isBlank() ? null : typeKey;
+            return entitiesGaugeByType.key(entity.getType());
         }
         if (entity instanceof Player) {
             return null;
@@ -472,84 +574,4 @@ public final class TelemetryState implements TelemetryStateStore {
         }
         return baseline;
     }
-
-    private static <K> void updateGauge(Map<K, Long> gauge, K key, long delta) {
-        if (key == null) {
-            return;
-        }
-        synchronized (gauge) {
-            gauge.merge(key, delta, Long::sum);
-        }
-    }
-
-    private static <K> Map<K, Long> snapshotFromGauge(Map<K, Long> gauge) {
-        Map<K, Long> snapshot = new HashMap<>();
-        synchronized (gauge) {
-            for (Map.Entry<K, Long> entry : gauge.entrySet()) {
-                long value = entry.getValue();
-                snapshot.put(entry.getKey(), Math.max(0L, value));
-            }
-        }
-        return Map.copyOf(snapshot);
-    }
-
-    private static <K> Map<K, Long> applyBaseline(
-            Map<K, Long> gauge,
-            Map<K, Long> baseline
-    ) {
-        Map<K, Long> normalized = new HashMap<>();
-        for (Map.Entry<K, Long> entry : baseline.entrySet()) {
-            long value = Math.max(0L, entry.getValue());
-            normalized.put(entry.getKey(), value);
-        }
-        replaceGauge(gauge, normalized);
-        return Map.copyOf(normalized);
-    }
-
-    private static <K> void replaceGauge(
-            Map<K, Long> gauge,
-            Map<K, Long> baseline
-    ) {
-        synchronized (gauge) {
-            gauge.clear();
-            for (Map.Entry<K, Long> entry : baseline.entrySet()) {
-                gauge.put(entry.getKey(), Math.max(0L, entry.getValue()));
-            }
-        }
-    }
-
-    private static final class ChunkKey {
-        private final String worldName;
-        private final int chunkX;
-        private final int chunkZ;
-
-        private ChunkKey(String worldName, int chunkX, int chunkZ) {
-            this.worldName = worldName;
-            this.chunkX = chunkX;
-            this.chunkZ = chunkZ;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null || getClass() != obj.getClass()) {
-                return false;
-            }
-            ChunkKey other = (ChunkKey) obj;
-            if (chunkX != other.chunkX || chunkZ != other.chunkZ) {
-                return false;
-            }
-            return worldName.equals(other.worldName);
-        }
-
-        @Override
-        public int hashCode() {
-            int result = worldName.hashCode();
-            result = 31 * result + chunkX;
-            result = 31 * result + chunkZ;
-            return result;
-        }
-    }
 }
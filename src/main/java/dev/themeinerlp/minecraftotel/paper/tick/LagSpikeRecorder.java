@@ -0,0 +1,239 @@
+package dev.themeinerlp.minecraftotel.paper.tick;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.paper.snapshot.MsptPercentiles;
+import dev.themeinerlp.minecraftotel.paper.snapshot.PaperTelemetrySnapshot;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Keeps the durations of the last ticks in a ring buffer and dumps them when a tick is too slow.
+ *
+ * <p>The ring buffer is written by the server thread only, so recording a tick is a single array
+ * store. When a tick exceeds the threshold, the ring is copied in tick order together with the
+ * latest telemetry snapshot and written as JSON under {@code lag-spikes/} in the plugin data
+ * folder on a background thread. A cooldown keeps consecutive slow ticks from producing a dump
+ * each, and only the newest {@code maxFiles} dumps are kept.
+ */
+public final class LagSpikeRecorder implements Listener {
+    private static final String DIRECTORY = "lag-spikes";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter
+            .ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final JavaPlugin plugin;
+    private final Supplier<TelemetrySnapshot> snapshotSupplier;
+    private final double thresholdMillis;
+    private final long cooldownNanos;
+    private final int maxFiles;
+    private final double[] ring;
+    private final Path directory;
+    private int next;
+    private int size;
+    private long lastDumpNanos;
+    private boolean dumped;
+    private ExecutorService writer;
+
+    /**
+     * Creates a lag spike recorder.
+     *
+     * @param plugin plugin instance
+     * @param snapshotSupplier supplier of the latest telemetry snapshot
+     * @param thresholdMillis tick duration that triggers a dump
+     * @param ticks number of ticks kept in the ring buffer
+     * @param cooldownSeconds minimum time between two dumps
+     * @param maxFiles number of dump files to keep
+     */
+    public LagSpikeRecorder(
+            JavaPlugin plugin,
+            Supplier<TelemetrySnapshot> snapshotSupplier,
+            double thresholdMillis,
+            int ticks,
+            int cooldownSeconds,
+            int maxFiles
+    ) {
+        this.plugin = plugin;
+        this.snapshotSupplier = snapshotSupplier;
+        this.thresholdMillis = thresholdMillis;
+        this.cooldownNanos = cooldownSeconds * 1_000_000_000L;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.ring = new double[Math.max(1, ticks)];
+        this.directory = plugin.getDataFolder().toPath().resolve(DIRECTORY);
+    }
+
+    /**
+     * Registers the tick listener and starts the dump writer thread.
+     */
+    public void start() {
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinecraftOTEL-LagSpikes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Unregisters the tick listener and lets pending dumps finish in the background.
+     */
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
+        }
+    }
+
+    /**
+     * Records the tick duration and dumps the ring buffer when the tick was too slow.
+     *
+     * @param event tick end event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        double durationMillis = event.getTickDuration();
+        ring[next] = durationMillis;
+        next = next + 1 == ring.length ? 0 : next + 1;
+        if (size < ring.length) {
+            size++;
+        }
+        if (durationMillis <= thresholdMillis) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (dumped && now - lastDumpNanos < cooldownNanos) {
+            return;
+        }
+        dumped = true;
+        lastDumpNanos = now;
+        dump(durationMillis, event.getTickNumber());
+    }
+
+    private void dump(double spikeMillis, int tickNumber) {
+        ExecutorService current = writer;
+        if (current == null) {
+            return;
+        }
+        double[] ticks = new double[size];
+        int start = size < ring.length ? 0 : next;
+        for (int i = 0; i < size; i++) {
+            ticks[i] = ring[(start + i) % ring.length];
+        }
+        Instant capturedAt = Instant.now();
+        TelemetrySnapshot snapshot = snapshotSupplier.get();
+        try {
+            current.execute(() -> write(capturedAt, spikeMillis, tickNumber, ticks, snapshot));
+        } catch (RejectedExecutionException ignored) {
+            // Shutting down; the dump is dropped.
+        }
+    }
+
+    private void write(
+            Instant capturedAt,
+            double spikeMillis,
+            int tickNumber,
+            double[] ticks,
+            TelemetrySnapshot snapshot
+    ) {
+        LagSpikeDump dump = new LagSpikeDump(
+                capturedAt.toString(),
+                tickNumber,
+                spikeMillis,
+                thresholdMillis,
+                ticks,
+                snapshot instanceof PaperTelemetrySnapshot paperSnapshot ? SnapshotCounters.of(paperSnapshot) : null
+        );
+        Path file = directory.resolve("lag-spike-" + FILE_TIME.format(capturedAt) + ".json");
+        try {
+            Files.createDirectories(directory);
+            try (Writer output = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                GSON.toJson(dump, output);
+            }
+            plugin.getSLF4JLogger().warn(
+                    "Tick {} took {} ms (threshold {} ms), wrote {}",
+                    tickNumber,
+                    String.format("%.1f", spikeMillis),
+                    String.format("%.1f", thresholdMillis),
+                    file.getFileName()
+            );
+            pruneOldDumps();
+        } catch (IOException exception) {
+            plugin.getSLF4JLogger().warn("Failed to write lag spike dump {}", file, exception);
+        }
+    }
+
+    private void pruneOldDumps() throws IOException {
+        List<Path> dumps = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().startsWith("lag-spike-"))
+                    .forEach(dumps::add);
+        }
+        if (dumps.size() <= maxFiles) {
+            return;
+        }
+        dumps.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        for (int i = 0; i < dumps.size() - maxFiles; i++) {
+            Files.deleteIfExists(dumps.get(i));
+        }
+    }
+
+    private record LagSpikeDump(
+            String capturedAt,
+            int tickNumber,
+            double spikeMillis,
+            double thresholdMillis,
+            double[] tickDurationsMillis,
+            SnapshotCounters snapshot
+    ) {
+    }
+
+    private record SnapshotCounters(
+            long playersOnline,
+            Map<String, Long> entitiesLoadedByWorld,
+            Map<String, Long> entitiesLoadedByType,
+            Map<String, Long> chunksLoadedByWorld,
+            long exclusiveChunksLoaded,
+            double[] tps,
+            Double msptAvg,
+            Double msptP95,
+            MsptPercentiles msptPercentiles
+    ) {
+        private static SnapshotCounters of(PaperTelemetrySnapshot snapshot) {
+            return new SnapshotCounters(
+                    snapshot.playersOnline(),
+                    snapshot.entitiesLoadedByWorld().orElse(null),
+                    snapshot.entitiesLoadedByType().orElse(null),
+                    snapshot.chunksLoadedByWorld(),
+                    snapshot.exclusiveChunksLoaded(),
+                    snapshot.tpsNullable(),
+                    snapshot.msptAvgNullable(),
+                    snapshot.msptP95Nullable(),
+                    snapshot.msptPercentiles().orElse(null)
+            );
+        }
+    }
+}
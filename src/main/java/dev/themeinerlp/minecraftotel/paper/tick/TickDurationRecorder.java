@@ -1,8 +1,10 @@
 package dev.themeinerlp.minecraftotel.paper.tick;
 
 import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.themeinerlp.minecraftotel.api.collector.BoundDoubleHistogram;
 import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
 import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import io.opentelemetry.api.common.Attributes;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.HandlerList;
@@ -14,7 +16,8 @@ import org.bukkit.plugin.java.JavaPlugin;
  */
 public final class TickDurationRecorder implements Listener {
     private final JavaPlugin plugin;
-    private final TelemetryCollector collector;
+    private final BoundDoubleHistogram tickDuration;
+    private final TickTimeWindow tickTimeWindow;
 
     /**
      * Creates a tick duration recorder.
@@ -23,8 +26,28 @@ public final class TickDurationRecorder implements Listener {
      * @param collector telemetry collector
      */
     public TickDurationRecorder(JavaPlugin plugin, TelemetryCollector collector) {
+        this(plugin, collector, null);
+    }
+
+    /**
+     * Creates a tick duration recorder that also feeds an MSPT window.
+     *
+     * @param plugin plugin instance
+     * @param collector telemetry collector or null to skip the tick duration histogram
+     * @param tickTimeWindow MSPT window or null
+     */
+    public TickDurationRecorder(JavaPlugin plugin, TelemetryCollector collector, TickTimeWindow tickTimeWindow) {
         this.plugin = plugin;
-        this.collector = collector;
+        this.tickDuration = collector == null
+                ? null
+                : collector
+                        .doubleHistogram(
+                                StandardMetrics.TICK_DURATION,
+                                StandardMetrics.UNIT_MILLIS,
+                                StandardMetrics.TICK_DURATION_BUCKETS
+                        )
+                        .bind(Attributes.empty());
+        this.tickTimeWindow = tickTimeWindow;
     }
 
     /**
@@ -42,18 +65,18 @@ public final class TickDurationRecorder implements Listener {
     }
 
     /**
-     * Records the elapsed tick time to the histogram.
+     * Records the elapsed tick time to the histogram and the MSPT window.
      *
      * @param event tick end event
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onTickEnd(ServerTickEndEvent event) {
         double durationMillis = event.getTickDuration();
-        collector.recordDoubleHistogram(
-                StandardMetrics.TICK_DURATION,
-                durationMillis,
-                StandardMetrics.UNIT_MILLIS,
-                null
-        );
+        if (tickDuration != null) {
+            tickDuration.record(durationMillis);
+        }
+        if (tickTimeWindow != null) {
+            tickTimeWindow.record(durationMillis);
+        }
     }
 }
@@ -0,0 +1,180 @@
+package dev.themeinerlp.minecraftotel.paper.tick;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.destroystokyo.paper.event.server.ServerTickStartEvent;
+import dev.themeinerlp.minecraftotel.api.collector.BoundDoubleHistogram;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import io.opentelemetry.api.common.Attributes;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Splits sampled ticks into phases using the boundaries visible through the Paper API.
+ *
+ * <p>A tick is bracketed by the first and last handlers of {@link ServerTickStartEvent} and
+ * {@link ServerTickEndEvent}, and a repeating sentinel task marks the point where the scheduler
+ * heartbeat reached this plugin's task. The recorded phases are:
+ * <ul>
+ *     <li>{@code tick_start_handlers}: other plugins' tick start handlers</li>
+ *     <li>{@code scheduler_head}: end of the tick start handlers until the sentinel task ran</li>
+ *     <li>{@code tick_body}: sentinel task until tick end, covering the remaining scheduler tasks,
+ *     world, entity, chunk and block entity ticking and network handling</li>
+ *     <li>{@code tick_end_handlers}: other plugins' tick end handlers</li>
+ *     <li>{@code idle}: time until the next tick starts</li>
+ * </ul>
+ * Paper exposes no finer boundaries inside the world tick. Only one in {@code sampleEvery}
+ * ticks is measured; other ticks return after a counter check.
+ */
+public final class TickPhaseRecorder implements Listener {
+    private final JavaPlugin plugin;
+    private final TelemetryScheduler scheduler;
+    private final int sampleEvery;
+    private final BoundDoubleHistogram tickStartHandlers;
+    private final BoundDoubleHistogram schedulerHead;
+    private final BoundDoubleHistogram tickBody;
+    private final BoundDoubleHistogram tickEndHandlers;
+    private final BoundDoubleHistogram idle;
+    private long tickCounter;
+    private boolean sampling;
+    private boolean idlePending;
+    private long tickStartNanos;
+    private long startHandlersDoneNanos;
+    private long sentinelNanos;
+    private long tickEndNanos;
+    private long tickEndHandlersDoneNanos;
+
+    /**
+     * Creates a tick phase recorder.
+     *
+     * @param plugin plugin instance
+     * @param scheduler scheduler running the sentinel task
+     * @param collector telemetry collector
+     * @param sampleEvery measure one in this many ticks
+     */
+    public TickPhaseRecorder(
+            JavaPlugin plugin,
+            TelemetryScheduler scheduler,
+            TelemetryCollector collector,
+            int sampleEvery
+    ) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        DoubleHistogramHandle phaseDuration = collector.doubleHistogram(
+                StandardMetrics.TICK_PHASE_DURATION,
+                StandardMetrics.UNIT_MILLIS,
+                StandardMetrics.TICK_PHASE_BUCKETS
+        );
+        this.tickStartHandlers = phaseDuration.bind(phase("tick_start_handlers"));
+        this.schedulerHead = phaseDuration.bind(phase("scheduler_head"));
+        this.tickBody = phaseDuration.bind(phase("tick_body"));
+        this.tickEndHandlers = phaseDuration.bind(phase("tick_end_handlers"));
+        this.idle = phaseDuration.bind(phase("idle"));
+    }
+
+    /**
+     * Registers the tick listeners and the sentinel task.
+     */
+    public void start() {
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        scheduler.runRepeating(this::onSentinel, 1L, 1L);
+    }
+
+    /**
+     * Unregisters the tick listeners. The sentinel task is cancelled with the scheduler.
+     */
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        sampling = false;
+        idlePending = false;
+    }
+
+    /**
+     * Marks the start of a tick and closes the idle phase of the previous sampled tick.
+     *
+     * @param event tick start event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onTickStartFirst(ServerTickStartEvent event) {
+        boolean sample = ++tickCounter % sampleEvery == 0L;
+        if (!sample && !idlePending) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (idlePending) {
+            idle.record(millis(now - tickEndHandlersDoneNanos));
+            idlePending = false;
+        }
+        sampling = sample;
+        sentinelNanos = 0L;
+        tickStartNanos = now;
+    }
+
+    /**
+     * Marks the end of the tick start handlers.
+     *
+     * @param event tick start event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickStartLast(ServerTickStartEvent event) {
+        if (!sampling) {
+            return;
+        }
+        startHandlersDoneNanos = System.nanoTime();
+        tickStartHandlers.record(millis(startHandlersDoneNanos - tickStartNanos));
+    }
+
+    /**
+     * Marks the end of the tick body.
+     *
+     * @param event tick end event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onTickEndFirst(ServerTickEndEvent event) {
+        if (!sampling) {
+            return;
+        }
+        tickEndNanos = System.nanoTime();
+        if (sentinelNanos != 0L) {
+            tickBody.record(millis(tickEndNanos - sentinelNanos));
+        }
+    }
+
+    /**
+     * Marks the end of the tick end handlers and starts the idle phase.
+     *
+     * @param event tick end event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEndLast(ServerTickEndEvent event) {
+        if (!sampling) {
+            return;
+        }
+        tickEndHandlersDoneNanos = System.nanoTime();
+        tickEndHandlers.record(millis(tickEndHandlersDoneNanos - tickEndNanos));
+        sampling = false;
+        idlePending = true;
+    }
+
+    private void onSentinel() {
+        if (!sampling || sentinelNanos != 0L) {
+            return;
+        }
+        sentinelNanos = System.nanoTime();
+        schedulerHead.record(millis(sentinelNanos - startHandlersDoneNanos));
+    }
+
+    private static Attributes phase(String name) {
+        return Attributes.of(StandardMetrics.PHASE_KEY, name);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
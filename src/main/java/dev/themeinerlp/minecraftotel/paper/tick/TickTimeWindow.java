@@ -0,0 +1,68 @@
+package dev.themeinerlp.minecraftotel.paper.tick;
+
+import dev.themeinerlp.minecraftotel.paper.snapshot.MsptPercentiles;
+import dev.themeinerlp.minecraftotel.paper.util.LogBucketHistogram;
+
+/**
+ * Rolling tick duration histogram that yields MSPT percentiles without sorting tick samples.
+ *
+ * <p>Ticks are recorded into the current histogram; once it holds {@link #WINDOW_TICKS} ticks
+ * it becomes the previous one and recording starts over. Reads merge both, so percentiles cover
+ * the last one to two minutes of ticks. Record and read from the server thread.
+ */
+public final class TickTimeWindow {
+    /** Ticks per histogram, one minute at 20 TPS. */
+    public static final int WINDOW_TICKS = 1200;
+
+    private static final double[] QUANTILES = {0.5d, 0.9d, 0.95d, 0.99d, 0.999d};
+
+    private LogBucketHistogram current;
+    private LogBucketHistogram previous;
+    private final LogBucketHistogram merged;
+    private final long[] values;
+
+    public TickTimeWindow() {
+        this.current = new LogBucketHistogram();
+        this.previous = new LogBucketHistogram();
+        this.merged = new LogBucketHistogram();
+        this.values = new long[QUANTILES.length];
+    }
+
+    /**
+     * Records one tick duration.
+     *
+     * @param durationMillis tick duration in milliseconds
+     */
+    public void record(double durationMillis) {
+        if (current.count() >= WINDOW_TICKS) {
+            LogBucketHistogram recycled = previous;
+            previous = current;
+            recycled.clear();
+            current = recycled;
+        }
+        current.record((long) (durationMillis * 1000d));
+    }
+
+    /**
+     * Returns the MSPT percentiles over the window.
+     *
+     * @return percentiles or null when no tick has been recorded
+     */
+    public MsptPercentiles percentiles() {
+        merged.clear();
+        merged.addAll(previous);
+        merged.addAll(current);
+        if (merged.count() == 0L) {
+            return null;
+        }
+        merged.valuesAtQuantiles(QUANTILES, values);
+        return new MsptPercentiles(
+                values[0] / 1000d,
+                values[1] / 1000d,
+                values[2] / 1000d,
+                values[3] / 1000d,
+                values[4] / 1000d,
+                merged.max() / 1000d
+        );
+    }
+}
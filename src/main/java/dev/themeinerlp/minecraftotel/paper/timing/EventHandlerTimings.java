@@ -0,0 +1,124 @@
+package dev.themeinerlp.minecraftotel.paper.timing;
+
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import java.util.function.UnaryOperator;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Times other plugins' event handlers by wrapping their {@link RegisteredListener}s.
+ *
+ * <p>Every registered listener of another plugin is swapped for a {@link HandlerTimingListener}
+ * that measures one in {@code sampleEvery} calls and records the duration with {@code plugin}
+ * and {@code event} attributes. The swap holds the {@link HandlerList} monitor across unregister
+ * and register, so a concurrent dispatch either sees the old baked handlers or waits for the new
+ * ones and never misses the listener; handlers keep their order within a priority. Listeners registered later are picked up when a plugin is
+ * enabled and on a periodic rescan. {@link #stop()} restores the original listeners.
+ */
+public final class EventHandlerTimings implements Listener {
+    private static final long RESCAN_PERIOD_TICKS = 1200L;
+
+    private final JavaPlugin plugin;
+    private final TelemetryScheduler scheduler;
+    private final DoubleHistogramHandle handlerDuration;
+    private final int sampleEvery;
+    private volatile boolean installed;
+
+    /**
+     * Creates the event handler timing instrumentation.
+     *
+     * @param plugin plugin instance, whose own listeners are not wrapped
+     * @param scheduler scheduler running the periodic rescan
+     * @param collector telemetry collector
+     * @param sampleEvery time one in this many handler calls
+     */
+    public EventHandlerTimings(
+            JavaPlugin plugin,
+            TelemetryScheduler scheduler,
+            TelemetryCollector collector,
+            int sampleEvery
+    ) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.handlerDuration = collector.doubleHistogram(
+                StandardMetrics.EVENT_HANDLER_DURATION,
+                StandardMetrics.UNIT_MILLIS,
+                StandardMetrics.EVENT_HANDLER_BUCKETS
+        );
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    /**
+     * Wraps all currently registered listeners and schedules the rescan.
+     */
+    public void start() {
+        installed = true;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        install();
+        scheduler.runRepeating(this::install, RESCAN_PERIOD_TICKS, RESCAN_PERIOD_TICKS);
+    }
+
+    /**
+     * Restores the original listeners. The rescan task is cancelled with the scheduler.
+     */
+    public void stop() {
+        installed = false;
+        HandlerList.unregisterAll(this);
+        for (HandlerList handlerList : HandlerList.getHandlerLists()) {
+            replace(handlerList, registered -> registered instanceof HandlerTimingListener timed && timed.owner() == this
+                    ? timed.delegate()
+                    : registered);
+        }
+    }
+
+    /**
+     * Wraps the listeners of a plugin that was just enabled.
+     *
+     * @param event plugin enable event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        install();
+    }
+
+    private void install() {
+        if (!installed) {
+            return;
+        }
+        for (HandlerList handlerList : HandlerList.getHandlerLists()) {
+            replace(handlerList, registered -> registered instanceof HandlerTimingListener || registered.getPlugin() == plugin
+                    ? registered
+                    : new HandlerTimingListener(registered, this, handlerDuration, sampleEvery));
+        }
+    }
+
+    private static void replace(HandlerList handlerList, UnaryOperator<RegisteredListener> replacement) {
+        synchronized (handlerList) {
+            RegisteredListener[] current = handlerList.getRegisteredListeners();
+            RegisteredListener[] replaced = new RegisteredListener[current.length];
+            boolean changed = false;
+            for (int i = 0; i < current.length; i++) {
+                replaced[i] = replacement.apply(current[i]);
+                changed |= replaced[i] != current[i];
+            }
+            if (!changed) {
+                return;
+            }
+            // Re-register everything in the original order so handlers keep their order within a priority.
+            for (RegisteredListener registered : current) {
+                handlerList.unregister(registered);
+            }
+            for (RegisteredListener registered : replaced) {
+                handlerList.register(registered);
+            }
+        }
+    }
+}
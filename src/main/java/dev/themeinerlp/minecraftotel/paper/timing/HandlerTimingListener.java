@@ -0,0 +1,98 @@
+package dev.themeinerlp.minecraftotel.paper.timing;
+
+import dev.themeinerlp.minecraftotel.api.collector.BoundDoubleHistogram;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import io.opentelemetry.api.common.Attributes;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.plugin.RegisteredListener;
+
+/**
+ * Registered listener that forwards to the original one and times one in {@code sampleEvery} calls.
+ */
+final class HandlerTimingListener extends RegisteredListener {
+    private final RegisteredListener delegate;
+    private final EventHandlerTimings owner;
+    private final DoubleHistogramHandle handlerDuration;
+    private final String pluginName;
+    private final int sampleEvery;
+    private int countdown;
+    private BoundEvent lastEvent;
+
+    HandlerTimingListener(
+            RegisteredListener delegate,
+            EventHandlerTimings owner,
+            DoubleHistogramHandle handlerDuration,
+            int sampleEvery
+    ) {
+        super(
+                delegate.getListener(),
+                (listener, event) -> {
+                },
+                delegate.getPriority(),
+                delegate.getPlugin(),
+                delegate.isIgnoringCancelled()
+        );
+        this.delegate = delegate;
+        this.owner = owner;
+        this.handlerDuration = handlerDuration;
+        this.pluginName = delegate.getPlugin().getName();
+        this.sampleEvery = sampleEvery;
+        this.countdown = sampleEvery;
+    }
+
+    RegisteredListener delegate() {
+        return delegate;
+    }
+
+    EventHandlerTimings owner() {
+        return owner;
+    }
+
+    @Override
+    public void callEvent(Event event) throws EventException {
+        // Unsynchronized on purpose: async events may race on the countdown, which only shifts
+        // which call gets sampled.
+        if (--countdown > 0) {
+            delegate.callEvent(event);
+            return;
+        }
+        countdown = sampleEvery;
+        long started = System.nanoTime();
+        try {
+            delegate.callEvent(event);
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            histogramFor(event.getClass()).record(elapsed / 1_000_000d);
+        }
+    }
+
+    private BoundDoubleHistogram histogramFor(Class<?> eventClass) {
+        BoundEvent bound = lastEvent;
+        if (bound == null || bound.eventClass != eventClass) {
+            Attributes attributes = Attributes.of(
+                    StandardMetrics.PLUGIN_KEY,
+                    pluginName,
+                    StandardMetrics.EVENT_KEY,
+                    eventClass.getSimpleName()
+            );
+            bound = new BoundEvent(eventClass, handlerDuration.bind(attributes));
+            lastEvent = bound;
+        }
+        return bound.histogram;
+    }
+
+    /**
+     * Histogram bound to the last event class seen by this listener.
+     */
+    private static final class BoundEvent {
+        private final Class<?> eventClass;
+        private final BoundDoubleHistogram histogram;
+
+        private BoundEvent(Class<?> eventClass, BoundDoubleHistogram histogram) {
+            this.eventClass = eventClass;
+            this.histogram = histogram;
+        }
+    }
+}
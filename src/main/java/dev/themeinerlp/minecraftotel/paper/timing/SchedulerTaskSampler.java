@@ -0,0 +1,106 @@
+package dev.themeinerlp.minecraftotel.paper.timing;
+
+import dev.themeinerlp.minecraftotel.api.collector.LongGaugeHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.paper.scheduler.TelemetryScheduler;
+import io.opentelemetry.api.common.Attributes;
+import java.util.HashMap;
+import java.util.Map;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scheduler.BukkitWorker;
+
+/**
+ * Samples the Bukkit scheduler queue per owning plugin.
+ *
+ * <p>Once per sampling interval the pending sync and async tasks and the active async workers are
+ * counted per plugin and recorded as gauges. Tasks themselves are not wrapped, so scheduling and
+ * running tasks costs nothing extra. The Bukkit API does not expose per-task execution times; the
+ * time spent in sync tasks shows up in the {@code scheduler_head} and {@code tick_body} tick
+ * phases. Not used on Folia, which has no global Bukkit scheduler queue.
+ */
+public final class SchedulerTaskSampler {
+    private static final String SYNC = "sync";
+    private static final String ASYNC = "async";
+
+    private final Server server;
+    private final TelemetryScheduler scheduler;
+    private final long periodTicks;
+    private final LongGaugeHandle pendingTasks;
+    private final LongGaugeHandle activeWorkers;
+    private final AttributeCache workerAttributes = new AttributeCache(StandardMetrics.PLUGIN_KEY);
+    private final Map<String, Attributes> syncAttributes = new HashMap<>();
+    private final Map<String, Attributes> asyncAttributes = new HashMap<>();
+    private final Map<String, long[]> pendingByPlugin = new HashMap<>();
+    private final Map<String, long[]> workersByPlugin = new HashMap<>();
+
+    /**
+     * Creates a scheduler task sampler.
+     *
+     * @param server server instance
+     * @param scheduler scheduler running the sampling task
+     * @param collector telemetry collector
+     * @param intervalSeconds sampling interval in seconds
+     */
+    public SchedulerTaskSampler(
+            Server server,
+            TelemetryScheduler scheduler,
+            TelemetryCollector collector,
+            int intervalSeconds
+    ) {
+        this.server = server;
+        this.scheduler = scheduler;
+        this.periodTicks = Math.max(1, intervalSeconds) * 20L;
+        this.pendingTasks = collector.longGauge(StandardMetrics.SCHEDULER_TASKS_PENDING, StandardMetrics.UNIT_COUNT);
+        this.activeWorkers = collector.longGauge(StandardMetrics.SCHEDULER_WORKERS_ACTIVE, StandardMetrics.UNIT_COUNT);
+    }
+
+    /**
+     * Schedules the sampling task. It is cancelled with the scheduler.
+     */
+    public void start() {
+        scheduler.runRepeating(this::sample, periodTicks, periodTicks);
+    }
+
+    private void sample() {
+        BukkitScheduler bukkitScheduler = server.getScheduler();
+        for (long[] counts : pendingByPlugin.values()) {
+            counts[0] = 0L;
+            counts[1] = 0L;
+        }
+        for (long[] counts : workersByPlugin.values()) {
+            counts[0] = 0L;
+        }
+
+        for (BukkitTask task : bukkitScheduler.getPendingTasks()) {
+            long[] counts = pendingByPlugin.computeIfAbsent(task.getOwner().getName(), ignored -> new long[2]);
+            counts[task.isSync() ? 0 : 1]++;
+        }
+        for (BukkitWorker worker : bukkitScheduler.getActiveWorkers()) {
+            workersByPlugin.computeIfAbsent(worker.getOwner().getName(), ignored -> new long[1])[0]++;
+        }
+
+        // Plugins without tasks drop out of the maps and their series are evicted as stale.
+        pendingByPlugin.entrySet().removeIf(entry -> entry.getValue()[0] == 0L && entry.getValue()[1] == 0L);
+        workersByPlugin.entrySet().removeIf(entry -> entry.getValue()[0] == 0L);
+        for (Map.Entry<String, long[]> entry : pendingByPlugin.entrySet()) {
+            String pluginName = entry.getKey();
+            long[] counts = entry.getValue();
+            pendingTasks.record(counts[0], attributes(syncAttributes, pluginName, SYNC));
+            pendingTasks.record(counts[1], attributes(asyncAttributes, pluginName, ASYNC));
+        }
+        for (Map.Entry<String, long[]> entry : workersByPlugin.entrySet()) {
+            activeWorkers.record(entry.getValue()[0], workerAttributes.get(entry.getKey()));
+        }
+    }
+
+    private static Attributes attributes(Map<String, Attributes> cache, String pluginName, String mode) {
+        return cache.computeIfAbsent(
+                pluginName,
+                ignored -> Attributes.of(StandardMetrics.PLUGIN_KEY, pluginName, StandardMetrics.MODE_KEY, mode)
+        );
+    }
+}
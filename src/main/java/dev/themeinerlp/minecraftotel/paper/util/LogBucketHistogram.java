@@ -0,0 +1,138 @@
+package dev.themeinerlp.minecraftotel.paper.util;
+
+import java.util.Arrays;
+
+/**
+ * Log-bucketed histogram for non-negative long values, in the style of HdrHistogram.
+ *
+ * <p>Values below 32 get an exact bucket. Above that, every power of two is split into 32 linear
+ * sub-buckets, so a reported quantile is within about 3% of the recorded value. Recording is
+ * O(1) and reading quantiles is O(buckets) without copying or sorting samples. Values above
+ * {@link #MAX_VALUE} are clamped. Instances are not thread-safe.
+ */
+public final class LogBucketHistogram {
+    /** Largest value with its own bucket; larger values are clamped to it. */
+    public static final long MAX_VALUE = (1L << 32) - 1L;
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+
+    public LogBucketHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value value to record, negative values count as zero
+     */
+    public void record(long value) {
+        long clamped = Math.max(0L, Math.min(MAX_VALUE, value));
+        counts[bucketIndex(clamped)]++;
+        totalCount++;
+        if (clamped > maxValue) {
+            maxValue = clamped;
+        }
+    }
+
+    /**
+     * Adds all counts of another histogram to this one.
+     *
+     * @param other histogram to add
+     */
+    public void addAll(LogBucketHistogram other) {
+        if (other.totalCount == 0L) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return value count
+     */
+    public long count() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return maximum value, 0 when empty
+     */
+    public long max() {
+        return maxValue;
+    }
+
+    /**
+     * Resolves several quantiles in a single pass over the buckets.
+     *
+     * @param quantiles ascending quantiles between 0 and 1
+     * @param values receives the value per quantile, 0 when empty
+     */
+    public void valuesAtQuantiles(double[] quantiles, long[] values) {
+        if (totalCount == 0L) {
+            for (int i = 0; i < quantiles.length; i++) {
+                values[i] = 0L;
+            }
+            return;
+        }
+        int quantileIndex = 0;
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKET_COUNT && quantileIndex < quantiles.length; bucket++) {
+            seen += counts[bucket];
+            while (quantileIndex < quantiles.length && seen >= rank(quantiles[quantileIndex])) {
+                values[quantileIndex++] = Math.min(representativeValue(bucket), maxValue);
+            }
+        }
+        while (quantileIndex < quantiles.length) {
+            values[quantileIndex++] = maxValue;
+        }
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void clear() {
+        if (totalCount == 0L) {
+            return;
+        }
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        maxValue = 0L;
+    }
+
+    private long rank(double quantile) {
+        long rank = (long) Math.ceil(quantile * totalCount);
+        return Math.max(1L, Math.min(totalCount, rank));
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_COUNT;
+        return ((shift + 1) << SUB_BITS) + subBucket;
+    }
+
+    private static long representativeValue(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long lower = (long) (SUB_COUNT + (bucket & (SUB_COUNT - 1))) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+}
@@ -0,0 +1,233 @@
+package dev.themeinerlp.minecraftotel.paper.util;
+
+/**
+ * Open-addressing map from long keys to positive int counts.
+ *
+ * <p>Keys are stored in a primitive array, so updates do not allocate once the table has grown
+ * to its working size. A count of zero marks a free slot, so entries are removed as soon as their
+ * count drops to zero. Instances are not thread-safe.
+ */
+public final class LongIntCountMap {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_SHRINK_CAPACITY = INITIAL_CAPACITY * 4;
+
+    private long[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+
+    public LongIntCountMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Packs chunk coordinates into a single long key.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return packed key
+     */
+    public static long pack(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the X coordinate of a packed key.
+     *
+     * @param key packed key
+     * @return X coordinate
+     */
+    public static int unpackX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Returns the Z coordinate of a packed key.
+     *
+     * @param key packed key
+     * @return Z coordinate
+     */
+    public static int unpackZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Increments the count of a key.
+     *
+     * @param key key
+     * @return count before the increment
+     */
+    public int increment(long key) {
+        int slot = find(key);
+        if (slot >= 0) {
+            int current = counts[slot];
+            counts[slot] = current + 1;
+            return current;
+        }
+        insert(key, 1);
+        return 0;
+    }
+
+    /**
+     * Adds a positive amount to the count of a key, saturating at {@link Integer#MAX_VALUE}.
+     *
+     * @param key key
+     * @param amount amount to add, ignored unless positive
+     * @return count before the addition
+     */
+    public int add(long key, int amount) {
+        if (amount <= 0) {
+            return get(key);
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            int current = counts[slot];
+            counts[slot] = (int) Math.min(Integer.MAX_VALUE, (long) current + amount);
+            return current;
+        }
+        insert(key, amount);
+        return 0;
+    }
+
+    /**
+     * Decrements the count of a key, removing it when the count reaches zero.
+     *
+     * @param key key
+     * @return count before the decrement, or zero when the key was absent
+     */
+    public int decrement(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int current = counts[slot];
+        if (current <= 1) {
+            removeAt(slot);
+            maybeShrink();
+            return current;
+        }
+        counts[slot] = current - 1;
+        return current;
+    }
+
+    /**
+     * Returns the count of a key.
+     *
+     * @param key key
+     * @return count, or zero when the key is absent
+     */
+    public int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Returns the number of keys with a positive count.
+     *
+     * @return key count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies all keys with a positive count into a new array.
+     *
+     * @return keys in table order
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int index = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (counts[i] != 0) {
+                result[index++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    private int find(long key) {
+        int slot = hash(key) & mask;
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, int count) {
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int slot = hash(key) & mask;
+        while (counts[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = count;
+        size++;
+    }
+
+    private void removeAt(int slot) {
+        // Backward-shift deletion keeps probe chains intact without tombstones.
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (counts[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                counts[gap] = counts[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0L;
+        counts[gap] = 0;
+        size--;
+    }
+
+    private void maybeShrink() {
+        if (keys.length >= MIN_SHRINK_CAPACITY && size * 8 < keys.length) {
+            rehash(keys.length / 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int count = oldCounts[i];
+            if (count == 0) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            counts[slot] = count;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
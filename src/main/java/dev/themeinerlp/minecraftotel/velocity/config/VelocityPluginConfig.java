@@ -15,19 +15,59 @@ public final class VelocityPluginConfig {
     public static final String KEY_INTERVAL_SECONDS = "sampling.intervalSeconds";
     public static final String KEY_ENABLE_PLAYERS_PER_SERVER = "otel.enable.playersPerServer";
     public static final String KEY_ENABLE_SERVER_COUNT = "otel.enable.serverCount";
+    public static final String KEY_STALE_SERIES_CYCLES = "sampling.staleSeriesCycles";
+    public static final String KEY_RECONCILE_INTERVAL_SECONDS = "sampling.reconcileIntervalSeconds";
+    public static final String KEY_ENABLE_LATENCY = "otel.enable.latency";
+    public static final String KEY_ENABLE_BACKEND_TRAFFIC = "otel.enable.backendTraffic";
+    public static final String KEY_ENABLE_BACKEND_PING = "otel.enable.backendPing";
+    public static final String KEY_BACKEND_PING_INTERVAL_SECONDS = "otel.backendPing.intervalSeconds";
+    public static final String KEY_BACKEND_PING_CONCURRENCY = "otel.backendPing.concurrency";
+    public static final String KEY_BACKEND_PING_TIMEOUT_MILLIS = "otel.backendPing.timeoutMillis";
+    public static final String KEY_ENABLE_FLEET = "otel.enable.fleet";
+    public static final String KEY_FLEET_STALE_SECONDS = "fleet.staleSeconds";
 
     public final int intervalSeconds;
     public final boolean enablePlayersPerServer;
     public final boolean enableServerCount;
+    public final int staleSeriesCycles;
+    public final int reconcileIntervalSeconds;
+    public final boolean enableLatency;
+    public final boolean enableBackendTraffic;
+    public final boolean enableBackendPing;
+    public final int backendPingIntervalSeconds;
+    public final int backendPingConcurrency;
+    public final int backendPingTimeoutMillis;
+    public final boolean enableFleet;
+    public final int fleetStaleSeconds;
 
     private VelocityPluginConfig(
             int intervalSeconds,
             boolean enablePlayersPerServer,
-            boolean enableServerCount
+            boolean enableServerCount,
+            int staleSeriesCycles,
+            int reconcileIntervalSeconds,
+            boolean enableLatency,
+            boolean enableBackendTraffic,
+            boolean enableBackendPing,
+            int backendPingIntervalSeconds,
+            int backendPingConcurrency,
+            int backendPingTimeoutMillis,
+            boolean enableFleet,
+            int fleetStaleSeconds
     ) {
         this.intervalSeconds = intervalSeconds;
         this.enablePlayersPerServer = enablePlayersPerServer;
         this.enableServerCount = enableServerCount;
+        this.staleSeriesCycles = staleSeriesCycles;
+        this.reconcileIntervalSeconds = reconcileIntervalSeconds;
+        this.enableLatency = enableLatency;
+        this.enableBackendTraffic = enableBackendTraffic;
+        this.enableBackendPing = enableBackendPing;
+        this.backendPingIntervalSeconds = backendPingIntervalSeconds;
+        this.backendPingConcurrency = backendPingConcurrency;
+        this.backendPingTimeoutMillis = backendPingTimeoutMillis;
+        this.enableFleet = enableFleet;
+        this.fleetStaleSeconds = fleetStaleSeconds;
     }
 
     /**
@@ -68,11 +108,67 @@ public final class VelocityPluginConfig {
                 properties.getProperty(KEY_ENABLE_SERVER_COUNT),
                 true
         );
+        int staleSeriesCycles = clamp(
+                parseInt(properties.getProperty(KEY_STALE_SERIES_CYCLES), 5),
+                0,
+                1000
+        );
+        int reconcileIntervalSeconds = clamp(
+                parseInt(properties.getProperty(KEY_RECONCILE_INTERVAL_SECONDS), 60),
+                10,
+                3600
+        );
+        boolean enableLatency = parseBoolean(
+                properties.getProperty(KEY_ENABLE_LATENCY),
+                true
+        );
+        boolean enableBackendTraffic = parseBoolean(
+                properties.getProperty(KEY_ENABLE_BACKEND_TRAFFIC),
+                false
+        );
+        boolean enableBackendPing = parseBoolean(
+                properties.getProperty(KEY_ENABLE_BACKEND_PING),
+                false
+        );
+        int backendPingIntervalSeconds = clamp(
+                parseInt(properties.getProperty(KEY_BACKEND_PING_INTERVAL_SECONDS), 10),
+                1,
+                300
+        );
+        int backendPingConcurrency = clamp(
+                parseInt(properties.getProperty(KEY_BACKEND_PING_CONCURRENCY), 8),
+                1,
+                64
+        );
+        int backendPingTimeoutMillis = clamp(
+                parseInt(properties.getProperty(KEY_BACKEND_PING_TIMEOUT_MILLIS), 2000),
+                100,
+                30_000
+        );
+        boolean enableFleet = parseBoolean(
+                properties.getProperty(KEY_ENABLE_FLEET),
+                false
+        );
+        int fleetStaleSeconds = clamp(
+                parseInt(properties.getProperty(KEY_FLEET_STALE_SECONDS), 30),
+                5,
+                3600
+        );
 
         return new VelocityPluginConfig(
                 intervalSeconds,
                 enablePlayersPerServer,
-                enableServerCount
+                enableServerCount,
+                staleSeriesCycles,
+                reconcileIntervalSeconds,
+                enableLatency,
+                enableBackendTraffic,
+                enableBackendPing,
+                backendPingIntervalSeconds,
+                backendPingConcurrency,
+                backendPingTimeoutMillis,
+                enableFleet,
+                fleetStaleSeconds
         );
     }
 
@@ -0,0 +1,202 @@
+package dev.themeinerlp.minecraftotel.velocity.fleet;
+
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.PluginMessageEvent;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.ServerConnection;
+import com.velocitypowered.api.proxy.messages.MinecraftChannelIdentifier;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleGaugeHandle;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.LongGaugeHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.fleet.FleetSummary;
+import dev.themeinerlp.minecraftotel.api.fleet.FleetSummaryCodec;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import io.opentelemetry.api.common.Attributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+
+/**
+ * Aggregates {@link FleetSummary} plugin messages from backend servers into network-wide gauges.
+ *
+ * <p>Only messages sent by a backend connection are accepted; messages on the channel are never
+ * forwarded to clients. The latest summary per backend is kept until it is older than
+ * {@code staleSeconds}. Every sample records totals, the lowest TPS and the worst MSPT over all
+ * fresh summaries; the TPS of every received summary also goes to a histogram.
+ */
+public final class FleetAggregator implements TelemetrySampler {
+    private static final MinecraftChannelIdentifier CHANNEL = MinecraftChannelIdentifier.from(FleetSummary.CHANNEL);
+
+    private final ProxyServer proxyServer;
+    private final Logger logger;
+    private final long staleNanos;
+    private final Map<String, Received> summaries = new ConcurrentHashMap<>();
+    private final DoubleHistogramHandle tpsDistribution;
+    private volatile boolean decodeWarningLogged;
+    private Instruments instruments;
+
+    /**
+     * Creates a fleet aggregator.
+     *
+     * @param proxyServer Velocity proxy server
+     * @param logger logger for malformed messages
+     * @param collector telemetry collector for the TPS histogram
+     * @param staleSeconds seconds after which a backend's summary is dropped
+     */
+    public FleetAggregator(ProxyServer proxyServer, Logger logger, TelemetryCollector collector, int staleSeconds) {
+        this.proxyServer = proxyServer;
+        this.logger = logger;
+        this.staleNanos = staleSeconds * 1_000_000_000L;
+        this.tpsDistribution = collector.doubleHistogram(
+                StandardMetrics.FLEET_TPS,
+                StandardMetrics.UNIT_COUNT,
+                StandardMetrics.FLEET_TPS_BUCKETS
+        );
+    }
+
+    /**
+     * Registers the plugin messaging channel.
+     */
+    public void start() {
+        proxyServer.getChannelRegistrar().register(CHANNEL);
+    }
+
+    /**
+     * Unregisters the plugin messaging channel.
+     */
+    public void stop() {
+        proxyServer.getChannelRegistrar().unregister(CHANNEL);
+        summaries.clear();
+    }
+
+    /**
+     * Stores the summary sent by a backend.
+     *
+     * @param event plugin message event
+     */
+    @Subscribe(order = PostOrder.FIRST)
+    public void onPluginMessage(PluginMessageEvent event) {
+        if (!CHANNEL.equals(event.getIdentifier())) {
+            return;
+        }
+        event.setResult(PluginMessageEvent.ForwardResult.handled());
+        if (!(event.getSource() instanceof ServerConnection connection)) {
+            return;
+        }
+        FleetSummary summary;
+        try {
+            summary = FleetSummaryCodec.decode(event.getData());
+        } catch (IllegalArgumentException exception) {
+            if (!decodeWarningLogged) {
+                decodeWarningLogged = true;
+                logger.warn("Ignoring malformed fleet summary from {}: {}",
+                        connection.getServerInfo().getName(), exception.getMessage());
+            }
+            return;
+        }
+        summaries.put(connection.getServerInfo().getName(), new Received(summary, System.nanoTime()));
+        if (!Double.isNaN(summary.tps1m())) {
+            tpsDistribution.record(summary.tps1m(), Attributes.empty());
+        }
+    }
+
+    @Override
+    public void sample(TelemetrySnapshot snapshot, TelemetryCollector collector) {
+        if (collector == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        summaries.values().removeIf(received -> now - received.receivedNanos > staleNanos);
+
+        long servers = 0L;
+        long players = 0L;
+        long entities = 0L;
+        long chunks = 0L;
+        double tpsMin = Double.NaN;
+        double msptAvgMax = Double.NaN;
+        double msptP95Max = Double.NaN;
+        for (Received received : summaries.values()) {
+            FleetSummary summary = received.summary;
+            servers++;
+            players += summary.playersOnline();
+            entities += Math.max(0L, summary.entitiesLoaded());
+            chunks += summary.chunksLoaded();
+            tpsMin = min(tpsMin, summary.tps1m());
+            msptAvgMax = max(msptAvgMax, summary.msptAvg());
+            msptP95Max = max(msptP95Max, summary.msptP95());
+        }
+
+        Instruments metrics = instrumentsFor(collector);
+        metrics.serversReporting.record(servers, Attributes.empty());
+        if (servers == 0L) {
+            return;
+        }
+        metrics.playersOnline.record(players, Attributes.empty());
+        metrics.entitiesLoaded.record(entities, Attributes.empty());
+        metrics.chunksLoaded.record(chunks, Attributes.empty());
+        if (!Double.isNaN(tpsMin)) {
+            metrics.tpsMin.record(tpsMin, Attributes.empty());
+        }
+        if (!Double.isNaN(msptAvgMax)) {
+            metrics.msptAvgMax.record(msptAvgMax, Attributes.empty());
+        }
+        if (!Double.isNaN(msptP95Max)) {
+            metrics.msptP95Max.record(msptP95Max, Attributes.empty());
+        }
+    }
+
+    private static double min(double current, double value) {
+        if (Double.isNaN(value)) {
+            return current;
+        }
+        return Double.isNaN(current) ? value : Math.min(current, value);
+    }
+
+    private static double max(double current, double value) {
+        if (Double.isNaN(value)) {
+            return current;
+        }
+        return Double.isNaN(current) ? value : Math.max(current, value);
+    }
+
+    private Instruments instrumentsFor(TelemetryCollector collector) {
+        Instruments current = instruments;
+        if (current == null || current.collector != collector) {
+            current = new Instruments(collector);
+            instruments = current;
+        }
+        return current;
+    }
+
+    private record Received(FleetSummary summary, long receivedNanos) {
+    }
+
+    /**
+     * Handles resolved for one collector, rebuilt if the sampler is handed a different collector.
+     */
+    private static final class Instruments {
+        private final TelemetryCollector collector;
+        private final LongGaugeHandle serversReporting;
+        private final LongGaugeHandle playersOnline;
+        private final LongGaugeHandle entitiesLoaded;
+        private final LongGaugeHandle chunksLoaded;
+        private final DoubleGaugeHandle tpsMin;
+        private final DoubleGaugeHandle msptAvgMax;
+        private final DoubleGaugeHandle msptP95Max;
+
+        private Instruments(TelemetryCollector collector) {
+            this.collector = collector;
+            this.serversReporting = collector.longGauge(StandardMetrics.FLEET_SERVERS_REPORTING, StandardMetrics.UNIT_COUNT);
+            this.playersOnline = collector.longGauge(StandardMetrics.FLEET_PLAYERS_ONLINE, StandardMetrics.UNIT_COUNT);
+            this.entitiesLoaded = collector.longGauge(StandardMetrics.FLEET_ENTITIES_LOADED, StandardMetrics.UNIT_COUNT);
+            this.chunksLoaded = collector.longGauge(StandardMetrics.FLEET_CHUNKS_LOADED, StandardMetrics.UNIT_COUNT);
+            this.tpsMin = collector.doubleGauge(StandardMetrics.FLEET_TPS_MIN, StandardMetrics.UNIT_COUNT);
+            this.msptAvgMax = collector.doubleGauge(StandardMetrics.FLEET_MSPT_AVG_MAX, StandardMetrics.UNIT_MILLIS);
+            this.msptP95Max = collector.doubleGauge(StandardMetrics.FLEET_MSPT_P95_MAX, StandardMetrics.UNIT_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.themeinerlp.minecraftotel.velocity.listeners;
+
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
+import com.velocitypowered.api.event.connection.PreLoginEvent;
+import com.velocitypowered.api.event.player.KickedFromServerEvent;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
+import com.velocitypowered.api.event.player.ServerPreConnectEvent;
+import dev.themeinerlp.minecraftotel.api.collector.BoundDoubleHistogram;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import io.opentelemetry.api.common.Attributes;
+import java.net.InetSocketAddress;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records login and backend connect durations.
+ *
+ * <p>A login is timed from {@link PreLoginEvent} to {@link PostLoginEvent}, keyed by the remote
+ * address of the connection. A backend connect is timed from {@link ServerPreConnectEvent} to
+ * {@link ServerConnectedEvent}, keyed by player. Only the start timestamp is kept per connection;
+ * logins that never complete are dropped once they are older than a minute.
+ */
+public final class ConnectionLatencyListener {
+    private static final long PENDING_TIMEOUT_NANOS = 60_000_000_000L;
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    private final ConcurrentHashMap<InetSocketAddress, Long> loginStarts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> connectStarts = new ConcurrentHashMap<>();
+    private final BoundDoubleHistogram loginDuration;
+    private final DoubleHistogramHandle connectDuration;
+    private final AttributeCache serverAttributes;
+
+    /**
+     * Creates a connection latency listener.
+     *
+     * @param collector telemetry collector
+     */
+    public ConnectionLatencyListener(TelemetryCollector collector) {
+        this.loginDuration = collector
+                .doubleHistogram(
+                        StandardMetrics.PROXY_LOGIN_DURATION,
+                        StandardMetrics.UNIT_MILLIS,
+                        StandardMetrics.PROXY_CONNECT_BUCKETS
+                )
+                .bind(Attributes.empty());
+        this.connectDuration = collector.doubleHistogram(
+                StandardMetrics.PROXY_BACKEND_CONNECT_DURATION,
+                StandardMetrics.UNIT_MILLIS,
+                StandardMetrics.PROXY_CONNECT_BUCKETS
+        );
+        this.serverAttributes = new AttributeCache(StandardMetrics.SERVER_KEY);
+    }
+
+    /**
+     * Starts timing a login.
+     *
+     * @param event pre-login event
+     */
+    @Subscribe(order = PostOrder.FIRST)
+    public void onPreLogin(PreLoginEvent event) {
+        long now = System.nanoTime();
+        if (loginStarts.size() >= PRUNE_THRESHOLD) {
+            loginStarts.values().removeIf(start -> now - start > PENDING_TIMEOUT_NANOS);
+        }
+        loginStarts.put(event.getConnection().getRemoteAddress(), now);
+    }
+
+    /**
+     * Records the login duration.
+     *
+     * @param event post-login event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onPostLogin(PostLoginEvent event) {
+        Long start = loginStarts.remove(event.getPlayer().getRemoteAddress());
+        if (start != null) {
+            loginDuration.record((System.nanoTime() - start) / 1_000_000d);
+        }
+    }
+
+    /**
+     * Starts timing a backend connect.
+     *
+     * @param event server pre-connect event
+     */
+    @Subscribe(order = PostOrder.FIRST)
+    public void onServerPreConnect(ServerPreConnectEvent event) {
+        connectStarts.put(event.getPlayer().getUniqueId(), System.nanoTime());
+    }
+
+    /**
+     * Records the backend connect duration for the server the player connected to.
+     *
+     * @param event server connected event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onServerConnected(ServerConnectedEvent event) {
+        Long start = connectStarts.remove(event.getPlayer().getUniqueId());
+        if (start != null) {
+            connectDuration.record(
+                    (System.nanoTime() - start) / 1_000_000d,
+                    serverAttributes.get(event.getServer().getServerInfo().getName())
+            );
+        }
+    }
+
+    /**
+     * Drops a pending backend connect that was rejected.
+     *
+     * @param event kicked from server event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onKickedFromServer(KickedFromServerEvent event) {
+        connectStarts.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Drops pending timestamps of a disconnected player.
+     *
+     * @param event disconnect event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(DisconnectEvent event) {
+        connectStarts.remove(event.getPlayer().getUniqueId());
+        loginStarts.remove(event.getPlayer().getRemoteAddress());
+    }
+}
@@ -0,0 +1,115 @@
+package dev.themeinerlp.minecraftotel.velocity.listeners;
+
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks players per backend server from connect and disconnect events.
+ *
+ * <p>Each player maps to the server they are connected to; moving a player adjusts the counters
+ * of both servers. {@link #reconcile(ProxyServer)} rebuilds the mapping from the proxy to correct
+ * drift from missed events and to add or drop registered servers.
+ */
+public final class ServerPlayerCountListener {
+    private final ConcurrentHashMap<UUID, String> serverByPlayer = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> playersByServer = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private long publishedVersion = -1L;
+    private Map<String, Long> published = Map.of();
+
+    /**
+     * Moves the player to the server they connected to.
+     *
+     * @param event server connected event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onServerConnected(ServerConnectedEvent event) {
+        move(event.getPlayer().getUniqueId(), event.getServer().getServerInfo().getName());
+    }
+
+    /**
+     * Removes the player from the server they were connected to.
+     *
+     * @param event disconnect event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(DisconnectEvent event) {
+        move(event.getPlayer().getUniqueId(), null);
+    }
+
+    /**
+     * Rebuilds the player mapping and all counters from the proxy's current connections.
+     * Events handled while the counters are being reset may be off by one until the next pass.
+     *
+     * @param proxyServer Velocity proxy server
+     */
+    public void reconcile(ProxyServer proxyServer) {
+        Set<UUID> online = new HashSet<>();
+        for (Player player : proxyServer.getAllPlayers()) {
+            online.add(player.getUniqueId());
+            player.getCurrentServer().ifPresentOrElse(
+                    connection -> serverByPlayer.put(player.getUniqueId(), connection.getServerInfo().getName()),
+                    () -> serverByPlayer.remove(player.getUniqueId())
+            );
+        }
+        serverByPlayer.keySet().retainAll(online);
+
+        Map<String, Long> counts = new HashMap<>();
+        for (RegisteredServer server : proxyServer.getAllServers()) {
+            counts.put(server.getServerInfo().getName(), 0L);
+        }
+        for (String server : serverByPlayer.values()) {
+            counts.merge(server, 1L, Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            playersByServer.computeIfAbsent(entry.getKey(), ignored -> new AtomicLong()).set(entry.getValue());
+        }
+        playersByServer.keySet().retainAll(counts.keySet());
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns players per server. The map is only rebuilt when a counter changed since the last
+     * call.
+     *
+     * @return immutable players per server
+     */
+    public synchronized Map<String, Long> snapshot() {
+        long current = version.get();
+        if (current != publishedVersion) {
+            Map<String, Long> next = new HashMap<>(playersByServer.size() * 2);
+            for (Map.Entry<String, AtomicLong> entry : playersByServer.entrySet()) {
+                next.put(entry.getKey(), Math.max(0L, entry.getValue().get()));
+            }
+            published = Map.copyOf(next);
+            publishedVersion = current;
+        }
+        return published;
+    }
+
+    private void move(UUID player, String server) {
+        String previous = server == null ? serverByPlayer.remove(player) : serverByPlayer.put(player, server);
+        if (server != null && server.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            playersByServer.computeIfAbsent(previous, ignored -> new AtomicLong()).decrementAndGet();
+        }
+        if (server != null) {
+            playersByServer.computeIfAbsent(server, ignored -> new AtomicLong()).incrementAndGet();
+        }
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,57 @@
+package dev.themeinerlp.minecraftotel.velocity.metrics;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.ServerConnection;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import io.opentelemetry.api.common.Attributes;
+
+/**
+ * Records the ping of every connected player once per sample, by backend server.
+ */
+public final class PlayerPingSampler implements TelemetrySampler {
+    private final ProxyServer proxyServer;
+    private final AttributeCache serverAttributes = new AttributeCache(StandardMetrics.SERVER_KEY);
+    private TelemetryCollector handleCollector;
+    private DoubleHistogramHandle playerPing;
+
+    /**
+     * Creates a player ping sampler.
+     *
+     * @param proxyServer Velocity proxy server
+     */
+    public PlayerPingSampler(ProxyServer proxyServer) {
+        this.proxyServer = proxyServer;
+    }
+
+    @Override
+    public void sample(TelemetrySnapshot snapshot, TelemetryCollector collector) {
+        if (collector == null) {
+            return;
+        }
+        if (handleCollector != collector) {
+            playerPing = collector.doubleHistogram(
+                    StandardMetrics.PROXY_PLAYER_PING,
+                    StandardMetrics.UNIT_MILLIS,
+                    StandardMetrics.PLAYER_PING_BUCKETS
+            );
+            handleCollector = collector;
+        }
+        for (Player player : proxyServer.getAllPlayers()) {
+            long ping = player.getPing();
+            if (ping < 0L) {
+                continue;
+            }
+            ServerConnection server = player.getCurrentServer().orElse(null);
+            Attributes attributes = server == null
+                    ? Attributes.empty()
+                    : serverAttributes.get(server.getServerInfo().getName());
+            playerPing.record(ping, attributes);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package dev.themeinerlp.minecraftotel.velocity.metrics;
 
+import dev.themeinerlp.minecraftotel.api.collector.DoubleGaugeHandle;
+import dev.themeinerlp.minecraftotel.api.collector.LongGaugeHandle;
 import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
 import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
 import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import dev.themeinerlp.minecraftotel.velocity.snapshot.BackendStatus;
 import dev.themeinerlp.minecraftotel.velocity.snapshot.VelocityTelemetrySnapshot;
 import io.opentelemetry.api.common.Attributes;
 import java.util.Map;
@@ -12,6 +16,9 @@ import java.util.Map;
  * Emits standard MinecraftOTEL metrics for Velocity snapshots.
  */
 public final class VelocityStandardSnapshotTelemetrySampler implements TelemetrySampler {
+    private final AttributeCache serverAttributes = new AttributeCache(StandardMetrics.SERVER_KEY);
+    private Instruments instruments;
+
     @Override
     public void sample(TelemetrySnapshot snapshot, TelemetryCollector collector) {
         if (snapshot == null || collector == null) {
@@ -22,28 +29,65 @@ public final class VelocityStandardSnapshotTelemetrySampler implements Telemetry
             return;
         }
 
-        collector.recordLongGauge(
-                StandardMetrics.PLAYERS_ONLINE,
-                velocitySnapshot.playersOnline(),
-                StandardMetrics.UNIT_COUNT,
-                Attributes.empty()
-        );
+        Instruments metrics = instrumentsFor(collector);
+        metrics.playersOnline.record(velocitySnapshot.playersOnline(), Attributes.empty());
 
         for (Map.Entry<String, Long> entry : velocitySnapshot.playersByServer().entrySet()) {
-            collector.recordLongGauge(
-                    StandardMetrics.PROXY_PLAYERS_ONLINE,
-                    entry.getValue(),
-                    StandardMetrics.UNIT_COUNT,
-                    Attributes.of(StandardMetrics.SERVER_KEY, entry.getKey())
-            );
+            metrics.proxyPlayersOnline.record(entry.getValue(), serverAttributes.get(entry.getKey()));
         }
 
         if (!velocitySnapshot.playersByServer().isEmpty() || velocitySnapshot.registeredServers() > 0L) {
-            collector.recordLongGauge(
+            metrics.serversRegistered.record(velocitySnapshot.registeredServers(), Attributes.empty());
+        }
+
+        for (Map.Entry<String, BackendStatus> entry : velocitySnapshot.backendStatus().entrySet()) {
+            Attributes attributes = serverAttributes.get(entry.getKey());
+            BackendStatus status = entry.getValue();
+            metrics.backendReachable.record(status.reachable() ? 1L : 0L, attributes);
+            if (status.reachable()) {
+                metrics.backendPingLatency.record(status.latencyMillis(), attributes);
+            }
+        }
+    }
+
+    private Instruments instrumentsFor(TelemetryCollector collector) {
+        Instruments current = instruments;
+        if (current == null || current.collector != collector) {
+            current = new Instruments(collector);
+            instruments = current;
+        }
+        return current;
+    }
+
+    /**
+     * Handles resolved for one collector, rebuilt if the sampler is handed a different collector.
+     */
+    private static final class Instruments {
+        private final TelemetryCollector collector;
+        private final LongGaugeHandle playersOnline;
+        private final LongGaugeHandle proxyPlayersOnline;
+        private final LongGaugeHandle serversRegistered;
+        private final LongGaugeHandle backendReachable;
+        private final DoubleGaugeHandle backendPingLatency;
+
+        private Instruments(TelemetryCollector collector) {
+            this.collector = collector;
+            this.playersOnline = collector.longGauge(StandardMetrics.PLAYERS_ONLINE, StandardMetrics.UNIT_COUNT);
+            this.proxyPlayersOnline = collector.longGauge(
+                    StandardMetrics.PROXY_PLAYERS_ONLINE,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.serversRegistered = collector.longGauge(
                     StandardMetrics.PROXY_SERVERS_REGISTERED,
-                    velocitySnapshot.registeredServers(),
-                    StandardMetrics.UNIT_COUNT,
-                    Attributes.empty()
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.backendReachable = collector.longGauge(
+                    StandardMetrics.PROXY_BACKEND_REACHABLE,
+                    StandardMetrics.UNIT_COUNT
+            );
+            this.backendPingLatency = collector.doubleGauge(
+                    StandardMetrics.PROXY_BACKEND_PING_LATENCY,
+                    StandardMetrics.UNIT_MILLIS
             );
         }
     }
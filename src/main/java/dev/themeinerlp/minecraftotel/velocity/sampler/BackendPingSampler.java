@@ -0,0 +1,176 @@
+package dev.themeinerlp.minecraftotel.velocity.sampler;
+
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.server.PingOptions;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import com.velocitypowered.api.proxy.server.ServerPing;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import dev.themeinerlp.minecraftotel.api.collector.DoubleHistogramHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.AttributeCache;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotBuilder;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotSampler;
+import dev.themeinerlp.minecraftotel.velocity.snapshot.BackendStatus;
+import dev.themeinerlp.minecraftotel.velocity.snapshot.VelocityTelemetrySnapshotBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pings all registered backend servers and adds their status to Velocity snapshots.
+ *
+ * <p>A ping round runs on its own interval. At most {@code concurrency} pings are in flight; each
+ * completion starts the next one, so the scheduler thread only starts the first pings and never
+ * waits. The timeout is passed to Velocity, so the backend connection itself is closed when it
+ * expires; pings that take longer than the timeout count as unreachable. A round that is still in
+ * flight when the next one is due skips that round. Snapshots carry the results of the last
+ * completed round; round trip times are also recorded in a histogram as pings complete.
+ */
+public final class BackendPingSampler implements TelemetrySnapshotSampler {
+    private final Object plugin;
+    private final ProxyServer proxyServer;
+    private final int intervalSeconds;
+    private final int concurrency;
+    private final long timeoutMillis;
+    private final PingOptions pingOptions;
+    private final DoubleHistogramHandle pingDuration;
+    private final AttributeCache serverAttributes = new AttributeCache(StandardMetrics.SERVER_KEY);
+    private final AtomicBoolean roundRunning = new AtomicBoolean();
+    private volatile Map<String, BackendStatus> published = Map.of();
+    private ScheduledTask task;
+
+    /**
+     * Creates a backend ping sampler.
+     *
+     * @param plugin plugin instance owning the ping task
+     * @param proxyServer Velocity proxy server
+     * @param collector telemetry collector for the ping duration histogram
+     * @param intervalSeconds seconds between ping rounds
+     * @param concurrency maximum pings in flight
+     * @param timeoutMillis per-server ping timeout in milliseconds
+     */
+    public BackendPingSampler(
+            Object plugin,
+            ProxyServer proxyServer,
+            TelemetryCollector collector,
+            int intervalSeconds,
+            int concurrency,
+            long timeoutMillis
+    ) {
+        this.plugin = plugin;
+        this.proxyServer = proxyServer;
+        this.intervalSeconds = intervalSeconds;
+        this.concurrency = concurrency;
+        this.timeoutMillis = timeoutMillis;
+        this.pingOptions = PingOptions.builder().timeout(Duration.ofMillis(timeoutMillis)).build();
+        this.pingDuration = collector.doubleHistogram(
+                StandardMetrics.PROXY_BACKEND_PING_DURATION,
+                StandardMetrics.UNIT_MILLIS,
+                StandardMetrics.PROXY_CONNECT_BUCKETS
+        );
+    }
+
+    /**
+     * Starts the periodic ping rounds.
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+        task = proxyServer.getScheduler()
+                .buildTask(plugin, this::startRound)
+                .repeat(Duration.ofSeconds(intervalSeconds))
+                .schedule();
+    }
+
+    /**
+     * Stops scheduling ping rounds. Pings in flight complete in the background.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    @Override
+    public void sample(TelemetrySnapshotBuilder builder) {
+        if (builder instanceof VelocityTelemetrySnapshotBuilder velocityBuilder) {
+            velocityBuilder.setBackendStatus(published);
+        }
+    }
+
+    private void startRound() {
+        if (!roundRunning.compareAndSet(false, true)) {
+            return;
+        }
+        Collection<RegisteredServer> servers = proxyServer.getAllServers();
+        if (servers.isEmpty()) {
+            published = Map.of();
+            roundRunning.set(false);
+            return;
+        }
+        Round round = new Round(servers);
+        for (int i = 0; i < Math.min(concurrency, servers.size()); i++) {
+            pingNext(round);
+        }
+    }
+
+    private void pingNext(Round round) {
+        RegisteredServer server = round.pending.poll();
+        if (server == null) {
+            return;
+        }
+        String name = server.getServerInfo().getName();
+        long start = System.nanoTime();
+        CompletableFuture<ServerPing> ping;
+        try {
+            ping = server.ping(pingOptions);
+        } catch (RuntimeException exception) {
+            ping = CompletableFuture.failedFuture(exception);
+        }
+        // orTimeout only guards against a future that Velocity never completes.
+        ping.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((result, error) -> {
+            try {
+                if (error == null && result != null) {
+                    double latencyMillis = (System.nanoTime() - start) / 1_000_000d;
+                    round.results.put(name, new BackendStatus(true, latencyMillis));
+                    pingDuration.record(latencyMillis, serverAttributes.get(name));
+                } else {
+                    round.results.put(name, new BackendStatus(false, -1d));
+                }
+            } finally {
+                if (round.remaining.decrementAndGet() == 0) {
+                    try {
+                        published = Map.copyOf(round.results);
+                    } finally {
+                        roundRunning.set(false);
+                    }
+                } else {
+                    pingNext(round);
+                }
+            }
+        });
+    }
+
+    /**
+     * State of one ping round.
+     */
+    private static final class Round {
+        private final ConcurrentLinkedQueue<RegisteredServer> pending;
+        private final AtomicInteger remaining;
+        private final Map<String, BackendStatus> results = new ConcurrentHashMap<>();
+
+        private Round(Collection<RegisteredServer> servers) {
+            this.pending = new ConcurrentLinkedQueue<>(servers);
+            this.remaining = new AtomicInteger(servers.size());
+        }
+    }
+}
@@ -1,25 +1,42 @@
 package dev.themeinerlp.minecraftotel.velocity.sampler;
 
 import com.velocitypowered.api.proxy.ProxyServer;
-import com.velocitypowered.api.proxy.server.RegisteredServer;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotBuilder;
 import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshotSampler;
 import dev.themeinerlp.minecraftotel.velocity.config.VelocityPluginConfig;
+import dev.themeinerlp.minecraftotel.velocity.listeners.ServerPlayerCountListener;
 import dev.themeinerlp.minecraftotel.velocity.snapshot.VelocityTelemetrySnapshotBuilder;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Builds telemetry snapshots for Velocity proxies.
+ *
+ * <p>Players per server come from event-driven counters, which are reconciled against the proxy
+ * every {@code sampling.reconcileIntervalSeconds}.
  */
 public final class VelocitySnapshotSampler implements TelemetrySnapshotSampler {
     private final ProxyServer proxyServer;
     private final VelocityPluginConfig config;
+    private final ServerPlayerCountListener playerCounts;
+    private final int reconcileEverySamples;
+    private int samplesSinceReconcile;
 
-    public VelocitySnapshotSampler(ProxyServer proxyServer, VelocityPluginConfig config) {
+    /**
+     * Creates a Velocity snapshot sampler.
+     *
+     * @param proxyServer Velocity proxy server
+     * @param config plugin configuration
+     * @param playerCounts per-server player counters
+     */
+    public VelocitySnapshotSampler(
+            ProxyServer proxyServer,
+            VelocityPluginConfig config,
+            ServerPlayerCountListener playerCounts
+    ) {
         this.proxyServer = proxyServer;
         this.config = config;
+        this.playerCounts = playerCounts;
+        this.reconcileEverySamples = Math.max(1, config.reconcileIntervalSeconds / config.intervalSeconds);
     }
 
     @Override
@@ -27,25 +44,20 @@ public final class VelocitySnapshotSampler implements TelemetrySnapshotSampler {
         if (!(builder instanceof VelocityTelemetrySnapshotBuilder velocityBuilder)) {
             return;
         }
-        long playersOnline = proxyServer.getAllPlayers().size();
-        Collection<RegisteredServer> servers = proxyServer.getAllServers();
-        long registeredServers = config.enableServerCount ? servers.size() : 0L;
-        Map<String, Long> playersByServer = config.enablePlayersPerServer
-                ? mapPlayersByServer(servers)
-                : Map.of();
+        long playersOnline = proxyServer.getPlayerCount();
+        Map<String, Long> playersByServer = Map.of();
+        if (config.enablePlayersPerServer) {
+            if (++samplesSinceReconcile >= reconcileEverySamples) {
+                samplesSinceReconcile = 0;
+                playerCounts.reconcile(proxyServer);
+            }
+            playersByServer = playerCounts.snapshot();
+        }
+        long registeredServers = config.enableServerCount ? proxyServer.getAllServers().size() : 0L;
 
         velocityBuilder
                 .setPlayersOnline(playersOnline)
                 .setPlayersByServer(playersByServer)
                 .setRegisteredServers(registeredServers);
     }
-
-    private static Map<String, Long> mapPlayersByServer(Collection<RegisteredServer> servers) {
-        Map<String, Long> playersByServer = new HashMap<>();
-        for (RegisteredServer server : servers) {
-            String name = server.getServerInfo().getName();
-            playersByServer.put(name, (long) server.getPlayersConnected().size());
-        }
-        return Map.copyOf(playersByServer);
-    }
 }
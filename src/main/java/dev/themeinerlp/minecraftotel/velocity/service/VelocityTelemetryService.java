@@ -3,7 +3,6 @@ package dev.themeinerlp.minecraftotel.velocity.service;
 import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.scheduler.ScheduledTask;
 import dev.themeinerlp.minecraftotel.api.collector.MeterTelemetryCollector;
-import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
 import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
 import dev.themeinerlp.minecraftotel.api.service.TelemetryListener;
 import dev.themeinerlp.minecraftotel.api.service.TelemetryService;
@@ -13,9 +12,15 @@ import dev.themeinerlp.minecraftotel.api.state.TelemetrySnapshotStore;
 import dev.themeinerlp.minecraftotel.api.state.TelemetryStateStore;
 import dev.themeinerlp.minecraftotel.velocity.metrics.VelocityStandardSnapshotTelemetrySampler;
 import dev.themeinerlp.minecraftotel.velocity.config.VelocityPluginConfig;
+import dev.themeinerlp.minecraftotel.velocity.fleet.FleetAggregator;
+import dev.themeinerlp.minecraftotel.velocity.listeners.ConnectionLatencyListener;
+import dev.themeinerlp.minecraftotel.velocity.listeners.ServerPlayerCountListener;
+import dev.themeinerlp.minecraftotel.velocity.metrics.PlayerPingSampler;
+import dev.themeinerlp.minecraftotel.velocity.sampler.BackendPingSampler;
 import dev.themeinerlp.minecraftotel.velocity.sampler.VelocitySnapshotSampler;
 import dev.themeinerlp.minecraftotel.velocity.snapshot.VelocityTelemetrySnapshot;
 import dev.themeinerlp.minecraftotel.velocity.snapshot.VelocityTelemetrySnapshotBuilder;
+import dev.themeinerlp.minecraftotel.velocity.traffic.BackendTrafficSampler;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.metrics.Meter;
 import java.nio.file.Path;
@@ -28,33 +33,44 @@ import org.slf4j.Logger;
  * Coordinates config loading, metrics registration, and sampling for Velocity.
  */
 public final class VelocityTelemetryService implements TelemetryService {
+    private final Object plugin;
     private final ProxyServer proxyServer;
     private final Logger logger;
     private final Path dataDirectory;
     private final String version;
-    private final TelemetryCollector collector;
+    private final MeterTelemetryCollector collector;
     private final List<TelemetrySnapshotSampler> snapshotSamplers;
     private final List<TelemetrySampler> samplers;
     private final List<TelemetryListener> listeners;
     private VelocityPluginConfig config;
     private final TelemetryStateStore state;
+    private ServerPlayerCountListener playerCountListener;
+    private ConnectionLatencyListener latencyListener;
+    private PlayerPingSampler pingSampler;
+    private BackendTrafficSampler trafficSampler;
+    private BackendPingSampler pingRounds;
+    private FleetAggregator fleetAggregator;
+    private VelocitySnapshotSampler snapshotSampler;
     private ScheduledTask samplingTask;
     private volatile boolean running;
 
     /**
      * Creates a telemetry coordinator for a Velocity proxy instance.
      *
+     * @param plugin plugin instance that owns scheduled tasks and event listeners
      * @param proxyServer Velocity proxy server
      * @param logger logger for lifecycle messages
      * @param dataDirectory data directory for config persistence
      * @param version plugin version for instrumentation metadata
      */
     public VelocityTelemetryService(
+            Object plugin,
             ProxyServer proxyServer,
             Logger logger,
             Path dataDirectory,
             String version
     ) {
+        this.plugin = plugin;
         this.proxyServer = proxyServer;
         this.logger = logger;
         this.dataDirectory = dataDirectory;
@@ -85,8 +101,43 @@ public final class VelocityTelemetryService implements TelemetryService {
                 logger,
                 getClass().getClassLoader()
         );
-        VelocitySnapshotSampler snapshotSampler = new VelocitySnapshotSampler(proxyServer, config);
-        this.snapshotSamplers.add(snapshotSampler);
+        playerCountListener = new ServerPlayerCountListener();
+        if (config.enablePlayersPerServer) {
+            proxyServer.getEventManager().register(plugin, playerCountListener);
+            playerCountListener.reconcile(proxyServer);
+        }
+        if (config.enableLatency) {
+            latencyListener = new ConnectionLatencyListener(collector);
+            proxyServer.getEventManager().register(plugin, latencyListener);
+            pingSampler = new PlayerPingSampler(proxyServer);
+            samplers.add(pingSampler);
+        }
+        if (config.enableBackendTraffic) {
+            trafficSampler = new BackendTrafficSampler(proxyServer, logger);
+            proxyServer.getEventManager().register(plugin, trafficSampler);
+            trafficSampler.start();
+            samplers.add(trafficSampler);
+        }
+        if (config.enableBackendPing) {
+            pingRounds = new BackendPingSampler(
+                    plugin,
+                    proxyServer,
+                    collector,
+                    config.backendPingIntervalSeconds,
+                    config.backendPingConcurrency,
+                    config.backendPingTimeoutMillis
+            );
+            snapshotSamplers.add(pingRounds);
+            pingRounds.start();
+        }
+        if (config.enableFleet) {
+            fleetAggregator = new FleetAggregator(proxyServer, logger, collector, config.fleetStaleSeconds);
+            fleetAggregator.start();
+            proxyServer.getEventManager().register(plugin, fleetAggregator);
+            samplers.add(fleetAggregator);
+        }
+        snapshotSampler = new VelocitySnapshotSampler(proxyServer, config, playerCountListener);
+        snapshotSamplers.add(snapshotSampler);
 
         sampleOnce();
         startSamplingTask();
@@ -94,6 +145,10 @@ public final class VelocityTelemetryService implements TelemetryService {
         logger.info("Velocity sampling interval: {}s", config.intervalSeconds);
         logger.info("Velocity per-server players enabled: {}", config.enablePlayersPerServer);
         logger.info("Velocity server count enabled: {}", config.enableServerCount);
+        logger.info("Velocity latency enabled: {}", config.enableLatency);
+        logger.info("Velocity backend traffic enabled: {}", config.enableBackendTraffic);
+        logger.info("Velocity backend ping enabled: {}", config.enableBackendPing);
+        logger.info("Velocity fleet aggregation enabled: {}", config.enableFleet);
     }
 
     @Override
@@ -160,11 +215,44 @@ public final class VelocityTelemetryService implements TelemetryService {
             samplingTask.cancel();
             samplingTask = null;
         }
+        if (snapshotSampler != null) {
+            snapshotSamplers.remove(snapshotSampler);
+            snapshotSampler = null;
+        }
+        if (playerCountListener != null) {
+            proxyServer.getEventManager().unregisterListener(plugin, playerCountListener);
+            playerCountListener = null;
+        }
+        if (latencyListener != null) {
+            proxyServer.getEventManager().unregisterListener(plugin, latencyListener);
+            latencyListener = null;
+        }
+        if (pingSampler != null) {
+            samplers.remove(pingSampler);
+            pingSampler = null;
+        }
+        if (trafficSampler != null) {
+            proxyServer.getEventManager().unregisterListener(plugin, trafficSampler);
+            samplers.remove(trafficSampler);
+            trafficSampler.stop();
+            trafficSampler = null;
+        }
+        if (pingRounds != null) {
+            pingRounds.stop();
+            snapshotSamplers.remove(pingRounds);
+            pingRounds = null;
+        }
+        if (fleetAggregator != null) {
+            proxyServer.getEventManager().unregisterListener(plugin, fleetAggregator);
+            samplers.remove(fleetAggregator);
+            fleetAggregator.stop();
+            fleetAggregator = null;
+        }
     }
 
     private void startSamplingTask() {
         samplingTask = proxyServer.getScheduler()
-                .buildTask(this, this::sampleOnce)
+                .buildTask(plugin, this::sampleOnce)
                 .repeat(Duration.ofSeconds(config.intervalSeconds))
                 .schedule();
     }
@@ -182,5 +270,6 @@ public final class VelocityTelemetryService implements TelemetryService {
         for (TelemetrySampler sampler : samplers) {
             sampler.sample(snapshot, collector);
         }
+        collector.completeCycle(config.staleSeriesCycles);
     }
 }
@@ -0,0 +1,10 @@
+package dev.themeinerlp.minecraftotel.velocity.snapshot;
+
+/**
+ * Result of the latest status ping to a backend server.
+ *
+ * @param reachable whether the backend answered within the timeout
+ * @param latencyMillis round trip of the status ping in milliseconds, or -1 if unreachable
+ */
+public record BackendStatus(boolean reachable, double latencyMillis) {
+}
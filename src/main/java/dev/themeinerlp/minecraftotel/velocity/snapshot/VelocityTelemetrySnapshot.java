@@ -10,15 +10,18 @@ public final class VelocityTelemetrySnapshot implements TelemetrySnapshot {
     private final long playersOnline;
     private final Map<String, Long> playersByServer;
     private final long registeredServers;
+    private final Map<String, BackendStatus> backendStatus;
 
     VelocityTelemetrySnapshot(
             long playersOnline,
             Map<String, Long> playersByServer,
-            long registeredServers
+            long registeredServers,
+            Map<String, BackendStatus> backendStatus
     ) {
         this.playersOnline = playersOnline;
         this.playersByServer = playersByServer == null ? Map.of() : Map.copyOf(playersByServer);
         this.registeredServers = registeredServers;
+        this.backendStatus = backendStatus == null ? Map.of() : Map.copyOf(backendStatus);
     }
 
     /**
@@ -27,7 +30,7 @@ public final class VelocityTelemetrySnapshot implements TelemetrySnapshot {
      * @return empty snapshot
      */
     public static VelocityTelemetrySnapshot empty() {
-        return new VelocityTelemetrySnapshot(0L, Map.of(), 0L);
+        return new VelocityTelemetrySnapshot(0L, Map.of(), 0L, Map.of());
     }
 
     /**
@@ -56,4 +59,14 @@ public final class VelocityTelemetrySnapshot implements TelemetrySnapshot {
     public long registeredServers() {
         return registeredServers;
     }
+
+    /**
+     * Returns the latest status ping result per backend server, empty unless backend pings are
+     * enabled.
+     *
+     * @return backend status per server
+     */
+    public Map<String, BackendStatus> backendStatus() {
+        return backendStatus;
+    }
 }
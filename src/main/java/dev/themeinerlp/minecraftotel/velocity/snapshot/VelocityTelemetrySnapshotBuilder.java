@@ -10,6 +10,7 @@ public final class VelocityTelemetrySnapshotBuilder implements TelemetrySnapshot
     private Long playersOnline;
     private Map<String, Long> playersByServer;
     private Long registeredServers;
+    private Map<String, BackendStatus> backendStatus;
 
     /**
      * Sets the online player count.
@@ -44,6 +45,17 @@ public final class VelocityTelemetrySnapshotBuilder implements TelemetrySnapshot
         return this;
     }
 
+    /**
+     * Sets the latest status ping result per backend server.
+     *
+     * @param backendStatus backend status per server
+     * @return builder
+     */
+    public VelocityTelemetrySnapshotBuilder setBackendStatus(Map<String, BackendStatus> backendStatus) {
+        this.backendStatus = backendStatus;
+        return this;
+    }
+
     /**
      * Builds the immutable Velocity snapshot.
      *
@@ -53,7 +65,8 @@ public final class VelocityTelemetrySnapshotBuilder implements TelemetrySnapshot
         return new VelocityTelemetrySnapshot(
                 playersOnline == null ? 0L : playersOnline,
                 playersByServer == null ? Map.of() : playersByServer,
-                registeredServers == null ? 0L : registeredServers
+                registeredServers == null ? 0L : registeredServers,
+                backendStatus == null ? Map.of() : backendStatus
         );
     }
 }
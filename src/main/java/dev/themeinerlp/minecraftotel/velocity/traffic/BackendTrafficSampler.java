@@ -0,0 +1,203 @@
+package dev.themeinerlp.minecraftotel.velocity.traffic;
+
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.player.ServerPostConnectEvent;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.ServerConnection;
+import dev.themeinerlp.minecraftotel.api.collector.LongCounterHandle;
+import dev.themeinerlp.minecraftotel.api.collector.TelemetryCollector;
+import dev.themeinerlp.minecraftotel.api.metrics.StandardMetrics;
+import dev.themeinerlp.minecraftotel.api.sampler.TelemetrySampler;
+import dev.themeinerlp.minecraftotel.api.snapshot.TelemetrySnapshot;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPipeline;
+import io.opentelemetry.api.common.Attributes;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+
+/**
+ * Counts packets and bytes forwarded between the proxy and each backend server.
+ *
+ * <p>The Velocity API does not expose connection pipelines, so the Netty channel of a backend
+ * connection is resolved reflectively ({@code getConnection().getChannel()} on the server
+ * connection) once per connect, and a {@link TrafficCountingHandler} is added after the frame
+ * decoder, which stays in place when compression replaces the frame encoder. Connections without
+ * a frame decoder are skipped with a warning logged once. Both methods are looked up once per
+ * implementing class and then reused. The handler only adds to striped {@link LongAdder}s of its
+ * server, so no allocation happens per packet. Once per sample the adders are drained into
+ * monotonic counters; per-second rates are derived from them by the metrics backend. If the
+ * internals cannot be resolved, a warning is logged once and the sampler records nothing.
+ */
+public final class BackendTrafficSampler implements TelemetrySampler {
+    private static final String FRAME_DECODER = "frame-decoder";
+    private static final String INBOUND = "inbound";
+    private static final String OUTBOUND = "outbound";
+
+    private final ProxyServer proxyServer;
+    private final Logger logger;
+    private final Map<String, Traffic> trafficByServer = new ConcurrentHashMap<>();
+    private volatile boolean available = true;
+    private volatile boolean missingDecoderLogged;
+    private volatile CachedMethod getConnection;
+    private volatile CachedMethod getChannel;
+    private TelemetryCollector handleCollector;
+    private LongCounterHandle bytes;
+    private LongCounterHandle packets;
+
+    /**
+     * Creates a backend traffic sampler.
+     *
+     * @param proxyServer Velocity proxy server
+     * @param logger logger for reflection failures
+     */
+    public BackendTrafficSampler(ProxyServer proxyServer, Logger logger) {
+        this.proxyServer = proxyServer;
+        this.logger = logger;
+    }
+
+    /**
+     * Attaches counting handlers to the backend connections that already exist.
+     */
+    public void start() {
+        for (Player player : proxyServer.getAllPlayers()) {
+            player.getCurrentServer().ifPresent(this::attach);
+        }
+    }
+
+    /**
+     * Removes the counting handlers from all current backend connections.
+     */
+    public void stop() {
+        for (Player player : proxyServer.getAllPlayers()) {
+            player.getCurrentServer().ifPresent(connection -> {
+                Channel channel = channel(connection);
+                if (channel == null) {
+                    return;
+                }
+                try {
+                    if (channel.pipeline().get(TrafficCountingHandler.NAME) != null) {
+                        channel.pipeline().remove(TrafficCountingHandler.NAME);
+                    }
+                } catch (NoSuchElementException exception) {
+                    // The channel was closed or the handler was removed concurrently.
+                }
+            });
+        }
+    }
+
+    /**
+     * Attaches a counting handler to the new backend connection.
+     *
+     * @param event server post-connect event
+     */
+    @Subscribe(order = PostOrder.LAST)
+    public void onServerPostConnect(ServerPostConnectEvent event) {
+        event.getPlayer().getCurrentServer().ifPresent(this::attach);
+    }
+
+    @Override
+    public void sample(TelemetrySnapshot snapshot, TelemetryCollector collector) {
+        if (collector == null || !available) {
+            return;
+        }
+        if (handleCollector != collector) {
+            bytes = collector.longCounter(StandardMetrics.PROXY_BACKEND_BYTES_TOTAL, StandardMetrics.UNIT_BYTES);
+            packets = collector.longCounter(StandardMetrics.PROXY_BACKEND_PACKETS_TOTAL, StandardMetrics.UNIT_COUNT);
+            handleCollector = collector;
+        }
+        for (Traffic traffic : trafficByServer.values()) {
+            bytes.add(traffic.bytesIn.sumThenReset(), traffic.inbound);
+            bytes.add(traffic.bytesOut.sumThenReset(), traffic.outbound);
+            packets.add(traffic.packetsIn.sumThenReset(), traffic.inbound);
+            packets.add(traffic.packetsOut.sumThenReset(), traffic.outbound);
+        }
+    }
+
+    private void attach(ServerConnection connection) {
+        Channel channel = channel(connection);
+        if (channel == null) {
+            return;
+        }
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(TrafficCountingHandler.NAME) != null) {
+            return;
+        }
+        if (pipeline.get(FRAME_DECODER) == null) {
+            if (!missingDecoderLogged) {
+                missingDecoderLogged = true;
+                logger.warn("Not counting traffic of backend {}: its connection has no {} handler.",
+                        connection.getServerInfo().getName(), FRAME_DECODER);
+            }
+            return;
+        }
+        Traffic traffic = trafficByServer.computeIfAbsent(connection.getServerInfo().getName(), Traffic::new);
+        try {
+            pipeline.addAfter(FRAME_DECODER, TrafficCountingHandler.NAME, new TrafficCountingHandler(traffic));
+        } catch (IllegalArgumentException | NoSuchElementException exception) {
+            // The channel was closed or the handler was added concurrently.
+        }
+    }
+
+    private Channel channel(ServerConnection connection) {
+        if (!available) {
+            return null;
+        }
+        try {
+            CachedMethod connectionMethod = getConnection;
+            if (connectionMethod == null || connectionMethod.owner != connection.getClass()) {
+                connectionMethod = new CachedMethod(connection.getClass(), "getConnection");
+                getConnection = connectionMethod;
+            }
+            Object minecraftConnection = connectionMethod.method.invoke(connection);
+            if (minecraftConnection == null) {
+                return null;
+            }
+            CachedMethod channelMethod = getChannel;
+            if (channelMethod == null || channelMethod.owner != minecraftConnection.getClass()) {
+                channelMethod = new CachedMethod(minecraftConnection.getClass(), "getChannel");
+                getChannel = channelMethod;
+            }
+            return (Channel) channelMethod.method.invoke(minecraftConnection);
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError exception) {
+            available = false;
+            logger.warn("Backend traffic metrics are unavailable on this Velocity version.", exception);
+            return null;
+        }
+    }
+
+    /**
+     * Public no-argument method resolved once for the class it was looked up on.
+     */
+    private static final class CachedMethod {
+        private final Class<?> owner;
+        private final Method method;
+
+        private CachedMethod(Class<?> owner, String name) throws NoSuchMethodException {
+            this.owner = owner;
+            this.method = owner.getMethod(name);
+        }
+    }
+
+    /**
+     * Striped packet and byte counters of one backend server.
+     */
+    static final class Traffic {
+        final LongAdder bytesIn = new LongAdder();
+        final LongAdder bytesOut = new LongAdder();
+        final LongAdder packetsIn = new LongAdder();
+        final LongAdder packetsOut = new LongAdder();
+        private final Attributes inbound;
+        private final Attributes outbound;
+
+        private Traffic(String server) {
+            this.inbound = Attributes.of(StandardMetrics.SERVER_KEY, server, StandardMetrics.DIRECTION_KEY, INBOUND);
+            this.outbound = Attributes.of(StandardMetrics.SERVER_KEY, server, StandardMetrics.DIRECTION_KEY, OUTBOUND);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.themeinerlp.minecraftotel.velocity.traffic;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Counts frames and bytes passing a backend connection pipeline.
+ *
+ * <p>Placed right after the frame decoder, every inbound and outbound {@link ByteBuf} is one
+ * length-framed packet (still compressed if compression is on). Messages are passed through
+ * unchanged.
+ */
+final class TrafficCountingHandler extends ChannelDuplexHandler {
+    static final String NAME = "minecraft-otel-traffic";
+
+    private final BackendTrafficSampler.Traffic traffic;
+
+    TrafficCountingHandler(BackendTrafficSampler.Traffic traffic) {
+        this.traffic = traffic;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ByteBuf buf) {
+            traffic.packetsIn.increment();
+            traffic.bytesIn.add(buf.readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf buf) {
+            traffic.packetsOut.increment();
+            traffic.bytesOut.add(buf.readableBytes());
+        }
+        ctx.write(msg, promise);
+    }
+}